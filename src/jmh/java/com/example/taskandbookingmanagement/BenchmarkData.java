@@ -0,0 +1,80 @@
+package com.example.taskandbookingmanagement;
+
+import com.example.taskandbookingmanagement.dto.TaskResponse;
+import com.example.taskandbookingmanagement.model.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic sample data shared by the benchmarks.
+ * Every fourth title/description needs CSV quoting, so the escaping path is exercised too.
+ */
+public final class BenchmarkData {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private BenchmarkData() {
+    }
+
+    public static User user(long id, String username, Role role) {
+        User u = new User();
+        ReflectionTestUtils.setField(u, "id", id);
+        u.setName(username);
+        u.setUsername(username);
+        u.setPasswordHash("-");
+        u.setRole(role);
+        return u;
+    }
+
+    public static List<Task> tasks(int count) {
+        User assignee = user(1L, "assignee", Role.USER);
+        User creator = user(2L, "creator", Role.MANAGER);
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task t = new Task();
+            ReflectionTestUtils.setField(t, "id", (long) i + 1);
+            t.setTitle(i % 4 == 0 ? "Fix \"login\", again #" + i : "Task " + i);
+            t.setDescription(i % 4 == 0 ? "Line one\nline two, with comma" : "Plain description " + i);
+            t.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            t.setPriority(Priority.values()[i % Priority.values().length]);
+            t.setTaskDateTime(BASE.plusHours(i));
+            t.setAssignedUser(assignee);
+            t.setCreatedBy(creator);
+            ReflectionTestUtils.setField(t, "createdAt", BASE);
+            ReflectionTestUtils.setField(t, "updatedAt", BASE);
+            if (t.getStatus() != TaskStatus.PENDING) {
+                t.setDecisionBy(creator);
+                t.setDecisionAt(BASE.plusMinutes(i));
+            }
+            tasks.add(t);
+        }
+        return tasks;
+    }
+
+    public static List<TaskResponse> responses(int count) {
+        List<TaskResponse> out = new ArrayList<>(count);
+        for (Task t : tasks(count)) {
+            TaskResponse r = new TaskResponse();
+            r.setId(t.getId());
+            r.setTitle(t.getTitle());
+            r.setDescription(t.getDescription());
+            r.setStatus(t.getStatus());
+            r.setPriority(t.getPriority());
+            r.setTaskDateTime(t.getTaskDateTime());
+            r.setAssignedUserId(t.getAssignedUser().getId());
+            r.setAssignedUsername(t.getAssignedUser().getUsername());
+            r.setCreatedByUserId(t.getCreatedBy().getId());
+            r.setCreatedByUsername(t.getCreatedBy().getUsername());
+            r.setCreatedAt(t.getCreatedAt());
+            r.setUpdatedAt(t.getUpdatedAt());
+            r.setDecisionAt(t.getDecisionAt());
+            r.setDecisionByUsername(t.getDecisionBy() == null ? null : t.getDecisionBy().getUsername());
+            out.add(r);
+        }
+        return out;
+    }
+}
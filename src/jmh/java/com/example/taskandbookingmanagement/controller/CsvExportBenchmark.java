@@ -0,0 +1,48 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.BenchmarkData;
+import com.example.taskandbookingmanagement.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// CSV escaping and row formatting used by GET /api/tasks/export
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CsvExportBenchmark {
+
+    private List<TaskResponse> rows;
+    private StringWriter out;
+
+    @Setup
+    public void setUp() {
+        rows = BenchmarkData.responses(1024);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetWriter() {
+        out = new StringWriter(256 * 1024);
+    }
+
+    @Benchmark
+    public String csv_plain() {
+        return TaskController.csv("Plain description 42");
+    }
+
+    @Benchmark
+    public String csv_needsQuoting() {
+        return TaskController.csv("Fix \"login\", again\nsecond line");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public StringWriter writeCsvRow_1kRows() {
+        for (TaskResponse r : rows) {
+            TaskController.writeCsvRow(out, r);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.BenchmarkData;
+import com.example.taskandbookingmanagement.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response body of GET /api/tasks (and the old unpaged list) at different sizes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private JsonMapper mapper;
+    private List<TaskResponse> body;
+
+    @Setup
+    public void setUp() {
+        mapper = JsonMapper.builder().build();
+        body = BenchmarkData.responses(rows);
+    }
+
+    @Benchmark
+    public void writeList() {
+        mapper.writeValue(OutputStream.nullOutputStream(), body);
+    }
+
+    @Benchmark
+    public byte[] writeListToBytes() {
+        return mapper.writeValueAsBytes(body);
+    }
+}
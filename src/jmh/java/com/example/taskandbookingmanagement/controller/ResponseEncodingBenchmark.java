@@ -0,0 +1,65 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.BenchmarkData;
+import com.example.taskandbookingmanagement.config.CborConfig;
+import com.example.taskandbookingmanagement.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORConstants;
+import tools.jackson.dataformat.cbor.CBORGenerator;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/tasks body as JSON vs compact CBOR (Accept: application/cbor, see CborConfig), written and read back.
+ * Speed only: the size difference is asserted by CborNegotiationTest (CBOR under half the JSON body).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseEncodingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private JavaType listType;
+    private List<TaskResponse> body;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        mapper = "cbor".equals(format)
+                ? CborConfig.compact(CBORMapper.builder()).build()
+                : JsonMapper.builder().build();
+        listType = mapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class);
+        body = BenchmarkData.responses(rows);
+        encoded = write();
+    }
+
+    @Benchmark
+    public byte[] write() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(encoded == null ? 1 << 16 : encoded.length);
+        try (JsonGenerator gen = mapper.createGenerator(out)) {
+            if (gen instanceof CBORGenerator cbor) {
+                cbor.writeTag(CBORConstants.TAG_ID_STRINGREF_NAMESPACE); // as the HTTP converter does
+            }
+            mapper.writerFor(listType).writeValue(gen, body);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public List<TaskResponse> read() {
+        return mapper.readValue(encoded, listType);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.TaskAndBookingManagementApplication;
+import com.example.taskandbookingmanagement.model.*;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Platform vs virtual threads (spring.threads.virtual.enabled) under concurrent HTTP load.
+ *
+ * One operation is a wave of `concurrency` requests sent at once over real sockets, so the score is waves/s;
+ * the `requests` and `errors` secondary results are per second as well. Tomcat keeps its default 200
+ * platform threads and Hikari its default 10 connections in both modes.
+ * The virtual runs need a Java 21+ JVM and fail setup on older ones instead of silently measuring platform threads:
+ *
+ *     mvn -Pbenchmark -DskipTests verify -Djmh.args="-f 1 -wi 2 -i 5 ThreadingModeBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThreadingModeBenchmark {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final int SEEDED_TASKS = 1000;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"16", "64", "256"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private User assignee;
+    private User creator;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String baseUrl;
+    private String token;
+    private PrintStream stdout;
+    // Minutes after BASE for the next created task: past the seeded ones, one each, as overlaps are refused (409)
+    private final AtomicLong nextSlot = new AtomicLong(SEEDED_TASKS);
+
+    @Setup
+    public void setUp() throws Exception {
+        boolean virtual = "virtual".equals(threads);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual-thread mode needs Java 21+, running on " + Runtime.version());
+        }
+
+        // Every create/decide prints a notification; thousands of them per second would drown the results
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        SpringApplication app = new SpringApplication(TaskAndBookingManagementApplication.class);
+        app.setDefaultProperties(Map.of(
+                "server.port", "0",
+                "spring.datasource.url", "jdbc:h2:mem:threads-" + threads + "-" + concurrency + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql", "false",
+                "spring.threads.virtual.enabled", Boolean.toString(virtual),
+                "logging.level.root", "WARN"
+        ));
+        context = app.run();
+
+        UserRepository users = context.getBean(UserRepository.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        assignee = users.findByUsername("user").orElseThrow();
+        creator = users.findByUsername("manager").orElseThrow();
+        taskRepository.saveAll(pendingTasks(SEEDED_TASKS));
+
+        // The client side is the same in both modes, and big enough never to be the bottleneck
+        clientExecutor = Executors.newFixedThreadPool(8);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor).build();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+
+        HttpResponse<String> login = client.send(json("/api/auth/login")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"manager\",\"password\":\"manager123\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        token = "Bearer " + login.body().replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    @TearDown
+    public void tearDown() {
+        clientExecutor.shutdownNow();
+        context.close();
+        System.setOut(stdout);
+    }
+
+    // Requests and errors per second next to the wave rate
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long requests;
+        public long errors;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+            errors = 0;
+        }
+    }
+
+    // A fresh PENDING task for every decide request of the next wave
+    @State(Scope.Thread)
+    public static class Pending {
+        List<Long> ids;
+
+        @Setup(Level.Invocation)
+        public void create(ThreadingModeBenchmark bench) {
+            ids = bench.taskRepository.saveAll(bench.pendingTasks(bench.concurrency))
+                    .stream().map(Task::getId).toList();
+        }
+    }
+
+    @Benchmark
+    public void listTasks(Counters counters) {
+        wave(counters, i -> authorized("/api/tasks?status=PENDING&sortBy=taskDateTime&sortDir=asc&limit=50")
+                .GET().build());
+    }
+
+    @Benchmark
+    public void createTask(Counters counters) {
+        wave(counters, i -> authorized("/api/tasks")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Load\",\"priority\":\"LOW\",\"taskDateTime\":\""
+                        + BASE.plusMinutes(nextSlot.getAndIncrement())
+                        + "\",\"assignedUserId\":" + assignee.getId() + "}")).build());
+    }
+
+    @Benchmark
+    public void decide(Counters counters, Pending pending) {
+        wave(counters, i -> authorized("/api/tasks/" + pending.ids.get(i) + "/approve")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"decision\":\"APPROVE\"}")).build());
+    }
+
+    private void wave(Counters counters, IntFunction<HttpRequest> request) {
+        List<CompletableFuture<HttpResponse<Void>>> inFlight = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            inFlight.add(client.sendAsync(request.apply(i), HttpResponse.BodyHandlers.discarding()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> f : inFlight) {
+            int status;
+            try {
+                status = f.join().statusCode();
+            } catch (RuntimeException e) {
+                status = -1;
+            }
+            counters.requests++;
+            if (status != 200) {
+                counters.errors++;
+            }
+        }
+    }
+
+    private HttpRequest.Builder json(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return json(path).header("Authorization", token);
+    }
+
+    private List<Task> pendingTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task t = new Task();
+            t.setTitle("Pending " + i);
+            t.setStatus(TaskStatus.PENDING);
+            t.setPriority(Priority.values()[i % Priority.values().length]);
+            t.setTaskDateTime(BASE.plusMinutes(i));
+            t.setAssignedUser(assignee);
+            t.setCreatedBy(creator);
+            tasks.add(t);
+        }
+        return tasks;
+    }
+}
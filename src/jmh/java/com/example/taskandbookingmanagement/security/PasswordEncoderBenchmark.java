@@ -0,0 +1,27 @@
+package com.example.taskandbookingmanagement.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of one password check (login, and every call when HTTP Basic is enabled)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(); // same strength as SecurityConfig
+        hash = encoder.encode("manager123");
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return encoder.matches("manager123", hash);
+    }
+}
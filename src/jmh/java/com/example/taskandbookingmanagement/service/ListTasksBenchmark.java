@@ -0,0 +1,90 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.TaskAndBookingManagementApplication;
+import com.example.taskandbookingmanagement.dto.TaskPage;
+import com.example.taskandbookingmanagement.model.*;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// TaskService reads against the real context and a seeded in-memory H2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ListTasksBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+
+    @Setup
+    public void setUp() {
+        SpringApplication app = new SpringApplication(TaskAndBookingManagementApplication.class);
+        // Full servlet context (the security config needs it) on a random port
+        app.setDefaultProperties(Map.of(
+                "server.port", "0",
+                "spring.datasource.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql", "false",
+                "logging.level.root", "WARN"
+        ));
+        context = app.run();
+
+        UserRepository users = context.getBean(UserRepository.class);
+        TaskRepository tasks = context.getBean(TaskRepository.class);
+        User assignee = users.findByUsername("user").orElseThrow();
+        User creator = users.findByUsername("manager").orElseThrow();
+
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Task t = new Task();
+            t.setTitle("Task " + i);
+            t.setDescription("Benchmark row " + i);
+            t.setStatus(i % 3 == 0 ? TaskStatus.APPROVED : TaskStatus.PENDING);
+            t.setPriority(Priority.values()[i % Priority.values().length]);
+            t.setTaskDateTime(base.plusMinutes(i));
+            t.setAssignedUser(assignee);
+            t.setCreatedBy(creator);
+            batch.add(t);
+            if (batch.size() == 1000) {
+                tasks.saveAll(batch);
+                batch.clear();
+            }
+        }
+        tasks.saveAll(batch);
+
+        taskService = context.getBean(TaskService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // Every row, streamed as for GET /api/tasks/export
+    @Benchmark
+    public void exportTasks_all(Blackhole bh) {
+        taskService.exportTasks(null, "taskDateTime", "asc", bh::consume);
+    }
+
+    @Benchmark
+    public void exportTasks_byStatus(Blackhole bh) {
+        taskService.exportTasks(TaskStatus.PENDING, "taskDateTime", "asc", bh::consume);
+    }
+
+    @Benchmark
+    public TaskPage listTasksPage_first50() {
+        return taskService.listTasksPage(TaskStatus.PENDING, null, null, "taskDateTime", "asc", null, 50);
+    }
+}
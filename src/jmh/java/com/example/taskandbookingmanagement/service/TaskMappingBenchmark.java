@@ -0,0 +1,39 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.BenchmarkData;
+import com.example.taskandbookingmanagement.dto.TaskResponse;
+import com.example.taskandbookingmanagement.model.Task;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Entity -> DTO mapping, run once per listed/exported row
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMappingBenchmark {
+
+    private List<Task> tasks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(1024);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() {
+        Task t = tasks.get(next++ & 1023);
+        return TaskService.toResponse(t);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public void toResponse_1kRows(Blackhole bh) {
+        for (Task t : tasks) {
+            bh.consume(TaskService.toResponse(t));
+        }
+    }
+}
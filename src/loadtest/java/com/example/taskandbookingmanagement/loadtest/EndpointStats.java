@@ -0,0 +1,82 @@
+package com.example.taskandbookingmanagement.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and outcomes of one endpoint, recorded by a single client thread and merged at the end.
+ * Every sample is kept, so the percentiles are exact (a minute of load is a few hundred thousand longs).
+ */
+final class EndpointStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private boolean sorted;
+    private long errors;
+    private final Map<String, Long> outcomes = new TreeMap<>();
+
+    void record(long nanos, String outcome, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        sorted = false;
+        if (error) {
+            errors++;
+        }
+        outcomes.merge(outcome, 1L, Long::sum);
+    }
+
+    // Counted under its outcome, without a latency sample (no request was sent)
+    void skipped(String outcome) {
+        outcomes.merge(outcome, 1L, Long::sum);
+    }
+
+    void addAll(EndpointStats other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        sorted = false;
+        errors += other.errors;
+        other.outcomes.forEach((k, v) -> outcomes.merge(k, v, Long::sum));
+    }
+
+    long count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    // "200 x 1200, 409 x 3"
+    String outcomes() {
+        StringBuilder sb = new StringBuilder();
+        outcomes.forEach((k, v) -> sb.append(sb.isEmpty() ? "" : ", ").append(k).append(" x ").append(v));
+        return sb.toString();
+    }
+
+    // Nearest-rank percentile in milliseconds
+    double percentileMillis(double p) {
+        if (count == 0) return 0;
+        sort();
+        int rank = (int) Math.ceil(p / 100.0 * count);
+        return latencies[Math.max(0, Math.min(count, rank) - 1)] / 1_000_000.0;
+    }
+
+    double maxMillis() {
+        if (count == 0) return 0;
+        sort();
+        return latencies[count - 1] / 1_000_000.0;
+    }
+
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.example.taskandbookingmanagement.loadtest;
+
+import com.example.taskandbookingmanagement.TaskAndBookingManagementApplication;
+import com.example.taskandbookingmanagement.model.*;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offline load test: boots the application on a random port against its own in-memory H2, seeds
+ * users, managers and pending tasks, then drives a weighted mix of requests from concurrent clients
+ * and writes throughput, p50/p99/p999 latency and errors per endpoint to a Markdown report.
+ *
+ *     mvn -Ploadtest -DskipTests verify -Dload.args="--clients=64 --duration=60s --mix=create:30,list:50,approve:15,export:5"
+ *
+ * Options (defaults in brackets): --users [50] USER accounts, --managers [5], --tasks [2000] pending tasks
+ * seeded up front, --clients [32] concurrent clients, --warmup [10s] not recorded, --duration [30s] recorded,
+ * --think [0ms] pause after each request, --mix [create:30,list:50,approve:15,export:5] relative weights,
+ * --report [target/load-report.md]. Any other --key=value goes to the application, e.g.
+ * --spring.threads.virtual.enabled=true or --app.notifications.workers=0.
+ *
+ * Each client is a closed loop that waits for its response before the next request. USER accounts create and
+ * list, managers approve, and exporters (also USER accounts) download the CSV export. Approvals take task ids
+ * from a shared queue of seeded and newly created PENDING tasks, so no approval ever races another one.
+ */
+public final class LoadTest {
+
+    private static final String PASSWORD = "load123";
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    enum Endpoint {
+        CREATE("POST /api/tasks"),
+        LIST("GET /api/tasks"),
+        APPROVE("PUT /api/tasks/{id}/approve"),
+        EXPORT("GET /api/tasks/export");
+
+        final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Map<String, String> options;
+    private final Map<String, Object> appProperties = new HashMap<>();
+    private final EnumMap<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    private final Queue<Long> pending = new ConcurrentLinkedQueue<>();
+    // Minutes after BASE for the next created task: past the seeded ones, one each, as overlaps are refused (409)
+    private final AtomicLong nextSlot = new AtomicLong();
+
+    private final int users;
+    private final int managers;
+    private final int tasks;
+    private final int clients;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration think;
+    private final Path report;
+
+    private HttpClient http;
+    private String baseUrl;
+    private final List<String> userTokens = new ArrayList<>();
+    private final List<String> managerTokens = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    private volatile boolean recording;
+    private volatile boolean stopped;
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(args).run();
+    }
+
+    LoadTest(String[] args) {
+        options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        users = intOption("users", 50);
+        managers = intOption("managers", 5);
+        tasks = intOption("tasks", 2000);
+        nextSlot.set(tasks);
+        clients = intOption("clients", 32);
+        warmup = durationOption("warmup", "10s");
+        duration = durationOption("duration", "30s");
+        think = durationOption("think", "0ms");
+        report = Path.of(options.getOrDefault("report", "target/load-report.md"));
+
+        for (String part : options.getOrDefault("mix", "create:30,list:50,approve:15,export:5").split(",")) {
+            String[] kv = part.trim().split(":");
+            mix.put(Endpoint.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(kv[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("--mix needs at least one positive weight");
+        }
+        if (users < 1 || managers < 1 || clients < 1) {
+            throw new IllegalArgumentException("--users, --managers and --clients must be at least 1");
+        }
+
+        Set<String> known = Set.of("users", "managers", "tasks", "clients", "warmup", "duration", "think", "mix", "report");
+        options.forEach((k, v) -> {
+            if (!known.contains(k)) appProperties.put(k, v);
+        });
+    }
+
+    void run() throws Exception {
+        // Every create/approve prints a notification; keep the console for progress and the summary
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        ConfigurableApplicationContext context = start();
+        try {
+            seed(context);
+            login();
+
+            console.printf("Load test: %d clients, warmup %s, duration %s, mix %s%n", clients, format(warmup), format(duration), mix);
+            List<Client> running = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                Client c = new Client(i);
+                running.add(c);
+                c.thread.start();
+            }
+
+            Thread.sleep(warmup.toMillis());
+            recording = true;
+            long started = System.nanoTime();
+            Thread.sleep(duration.toMillis());
+            recording = false;
+            long elapsed = System.nanoTime() - started;
+            stopped = true;
+            for (Client c : running) {
+                c.thread.join();
+            }
+
+            EnumMap<Endpoint, EndpointStats> totals = new EnumMap<>(Endpoint.class);
+            for (Endpoint e : Endpoint.values()) {
+                EndpointStats merged = new EndpointStats();
+                running.forEach(c -> merged.addAll(c.stats.get(e)));
+                totals.put(e, merged);
+            }
+
+            String text = render(totals, elapsed);
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            Files.writeString(report, text);
+            console.print(text);
+            console.println("Report written to " + report.toAbsolutePath());
+        } finally {
+            context.close();
+            System.setOut(console);
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        SpringApplication app = new SpringApplication(TaskAndBookingManagementApplication.class);
+        Map<String, Object> defaults = new HashMap<>(Map.of(
+                "server.port", "0",
+                "spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql", "false",
+                "spring.main.banner-mode", "off",
+                "logging.level.root", "WARN",
+                "app.security.token.ttl", "24h" // tokens are issued once, before the run
+        ));
+        defaults.putAll(appProperties);
+        app.setDefaultProperties(defaults);
+        ConfigurableApplicationContext context = app.run();
+
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        return context;
+    }
+
+    // Same shape as DataSeeder; one BCrypt hash shared by every account keeps seeding fast
+    private void seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<User> assignees = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            assignees.add(makeUser("Load User " + i, "load-user-" + i, hash, Role.USER));
+        }
+        userRepository.saveAll(assignees).forEach(u -> userIds.add(u.getId()));
+
+        List<User> approvers = new ArrayList<>();
+        for (int i = 0; i < managers; i++) {
+            approvers.add(makeUser("Load Manager " + i, "load-manager-" + i, hash, Role.MANAGER));
+        }
+        User creator = userRepository.saveAll(approvers).get(0);
+
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            Task t = new Task();
+            t.setTitle("Seeded " + i);
+            t.setDescription("Load test fixture " + i);
+            t.setStatus(TaskStatus.PENDING);
+            t.setPriority(Priority.values()[i % Priority.values().length]);
+            t.setTaskDateTime(BASE.plusMinutes(i));
+            t.setAssignedUser(assignees.get(i % assignees.size()));
+            t.setCreatedBy(creator);
+            batch.add(t);
+            if (batch.size() == 500 || i == tasks - 1) {
+                taskRepository.saveAll(batch).forEach(saved -> pending.add(saved.getId()));
+                batch.clear();
+            }
+        }
+    }
+
+    private User makeUser(String name, String username, String passwordHash, Role role) {
+        User u = new User();
+        u.setName(name);
+        u.setUsername(username);
+        u.setPasswordHash(passwordHash);
+        u.setRole(role);
+        u.setEnabled(true);
+        return u;
+    }
+
+    private void login() throws IOException, InterruptedException {
+        for (int i = 0; i < users; i++) {
+            userTokens.add(token("load-user-" + i));
+        }
+        for (int i = 0; i < managers; i++) {
+            managerTokens.add(token("load-manager-" + i));
+        }
+    }
+
+    private String token(String username) throws IOException, InterruptedException {
+        HttpResponse<String> res = http.send(request("/api/auth/login", null)
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (res.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + username + ": " + res.statusCode());
+        }
+        return "Bearer " + res.body().replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60));
+        return (token == null) ? b : b.header("Authorization", token);
+    }
+
+    private String render(EnumMap<Endpoint, EndpointStats> totals, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Load test report\n\n");
+        sb.append(String.format(Locale.ROOT, "- Java %s, %d CPUs%n", Runtime.version(), Runtime.getRuntime().availableProcessors()));
+        sb.append(String.format(Locale.ROOT, "- %d clients, %d users, %d managers, %d seeded tasks%n", clients, users, managers, tasks));
+        sb.append(String.format(Locale.ROOT, "- warmup %s, recorded %.1f s, think %s, mix %s%n",
+                format(warmup), seconds, format(think), mix));
+        if (!appProperties.isEmpty()) {
+            sb.append("- application properties ").append(new TreeMap<>(appProperties)).append('\n');
+        }
+        sb.append('\n');
+        sb.append("| Endpoint | Requests | Req/s | Errors | Error % | p50 ms | p99 ms | p999 ms | max ms | Outcomes |\n");
+        sb.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---|\n");
+
+        EndpointStats all = new EndpointStats();
+        for (Endpoint e : Endpoint.values()) {
+            EndpointStats s = totals.get(e);
+            if (s.count() == 0 && !mix.containsKey(e)) continue;
+            row(sb, e.label, s, seconds);
+            all.addAll(s);
+        }
+        row(sb, "**all**", all, seconds);
+        return sb.toString();
+    }
+
+    private static void row(StringBuilder sb, String label, EndpointStats s, double seconds) {
+        sb.append(String.format(Locale.ROOT, "| %s | %d | %.1f | %d | %.2f | %.2f | %.2f | %.2f | %.2f | %s |%n",
+                label, s.count(), s.count() / seconds, s.errors(),
+                s.count() == 0 ? 0.0 : 100.0 * s.errors() / s.count(),
+                s.percentileMillis(50), s.percentileMillis(99), s.percentileMillis(99.9), s.maxMillis(),
+                s.outcomes()));
+    }
+
+    // One simulated client: a fixed user account and manager account, picking requests by weight
+    private final class Client {
+
+        final Thread thread;
+        final EnumMap<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        final String userToken;
+        final String managerToken;
+
+        Client(int index) {
+            userToken = userTokens.get(index % userTokens.size());
+            managerToken = managerTokens.get(index % managerTokens.size());
+            for (Endpoint e : Endpoint.values()) {
+                stats.put(e, new EndpointStats());
+            }
+            thread = new Thread(this::loop, "load-client-" + index);
+        }
+
+        void loop() {
+            int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+            while (!stopped) {
+                int pick = ThreadLocalRandom.current().nextInt(total);
+                Endpoint endpoint = null;
+                for (Map.Entry<Endpoint, Integer> e : mix.entrySet()) {
+                    pick -= e.getValue();
+                    if (pick < 0) {
+                        endpoint = e.getKey();
+                        break;
+                    }
+                }
+                call(endpoint);
+                if (!think.isZero()) {
+                    try {
+                        Thread.sleep(think.toMillis());
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        void call(Endpoint endpoint) {
+            HttpRequest req;
+            switch (endpoint) {
+                case CREATE -> {
+                    long assignee = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+                    req = request("/api/tasks", userToken).POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"title\":\"Load\",\"description\":\"Created under load\",\"priority\":\"MEDIUM\",\"taskDateTime\":\""
+                                    + BASE.plusMinutes(nextSlot.getAndIncrement()) + "\",\"assignedUserId\":" + assignee
+                                    + "}")).build();
+                }
+                case LIST -> req = request("/api/tasks?status=PENDING&sortBy=taskDateTime&sortDir=asc&limit=50", userToken)
+                        .GET().build();
+                case APPROVE -> {
+                    Long id = pending.poll();
+                    if (id == null) {
+                        // Nothing left to approve: shown in the outcomes, but no request is sent
+                        if (recording) stats.get(endpoint).skipped("no pending task");
+                        return;
+                    }
+                    req = request("/api/tasks/" + id + "/approve", managerToken)
+                            .PUT(HttpRequest.BodyPublishers.ofString("{\"decision\":\"APPROVE\"}")).build();
+                }
+                case EXPORT -> req = request("/api/tasks/export", userToken).GET().build();
+                default -> throw new IllegalStateException("Unknown endpoint " + endpoint);
+            }
+
+            long start = System.nanoTime();
+            String outcome;
+            boolean error;
+            try {
+                HttpResponse<String> res = http.send(req, HttpResponse.BodyHandlers.ofString());
+                outcome = Integer.toString(res.statusCode());
+                error = res.statusCode() >= 400;
+                if (endpoint == Endpoint.CREATE && !error) {
+                    pending.add(Long.parseLong(res.body().replaceAll(".*?\"id\":(\\d+).*", "$1")));
+                }
+            } catch (IOException e) {
+                outcome = e.getClass().getSimpleName();
+                error = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long nanos = System.nanoTime() - start;
+            if (recording) {
+                stats.get(endpoint).record(nanos, outcome, error);
+            }
+        }
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, Integer.toString(defaultValue)));
+    }
+
+    private static String format(Duration d) {
+        return (d.toMillis() % 1000 == 0) ? d.toSeconds() + "s" : d.toMillis() + "ms";
+    }
+
+    // "30s", "500ms", "2m" or ISO-8601 "PT30S"
+    private Duration durationOption(String name, String defaultValue) {
+        String v = options.getOrDefault(name, defaultValue).trim().toLowerCase(Locale.ROOT);
+        if (v.startsWith("pt")) return Duration.parse(v.toUpperCase(Locale.ROOT));
+        if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if (v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        if (v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.taskandbookingmanagement.config;
+
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.boot.jackson.autoconfigure.CborMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+import tools.jackson.dataformat.cbor.CBORConstants;
+import tools.jackson.dataformat.cbor.CBORGenerator;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.cbor.CBORWriteFeature;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact binary responses: any endpoint answers Accept: application/cbor with CBOR (RFC 8949) instead of JSON.
+ *
+ * Two things make it smaller than the same data as JSON, beyond the binary framing:
+ * - LocalDateTime values are epoch milliseconds, reading the wall-clock value as UTC (so it round-trips
+ *   exactly, whatever the server's zone), instead of 19-character ISO strings
+ * - repeated strings (field names, usernames, enum values) are written once per response and then
+ *   referenced by index (CBOR stringref, tags 256/25)
+ *
+ * JSON responses are not affected; the settings only go into Boot's CBORMapper.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    CborMapperBuilderCustomizer compactCbor() {
+        return CborConfig::compact;
+    }
+
+    // MVC's CBOR converter, built on Boot's CBORMapper so the settings above apply
+    @Bean
+    ServerHttpMessageConvertersCustomizer cborMessageConverter(CBORMapper cborMapper) {
+        return builder -> builder.withCborConverter(new StringRefCborHttpMessageConverter(cborMapper));
+    }
+
+    // Shared with the benchmarks, so they measure what the endpoint sends.
+    // Bodies written with this mapper must start with tag 256, see StringRefCborHttpMessageConverter.
+    public static CBORMapper.Builder compact(CBORMapper.Builder builder) {
+        SimpleModule epochDateTimes = new SimpleModule("cbor-epoch-date-times")
+                .addSerializer(LocalDateTime.class, new EpochMillisSerializer())
+                .addDeserializer(LocalDateTime.class, new EpochMillisDeserializer());
+        return builder.enable(CBORWriteFeature.STRINGREF).addModule(epochDateTimes);
+    }
+
+    // Jackson writes the stringref indexes but not the namespace tag that scopes them (its own parser rejects
+    // such input), so every response body is wrapped in one here
+    static final class StringRefCborHttpMessageConverter extends JacksonCborHttpMessageConverter {
+
+        StringRefCborHttpMessageConverter(CBORMapper mapper) {
+            super(mapper);
+        }
+
+        @Override
+        protected void writePrefix(JsonGenerator generator, Object object) {
+            ((CBORGenerator) generator).writeTag(CBORConstants.TAG_ID_STRINGREF_NAMESPACE);
+        }
+    }
+
+    static final class EpochMillisSerializer extends StdSerializer<LocalDateTime> {
+
+        EpochMillisSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeNumber(value.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+    }
+
+    // Request bodies may send either epoch milliseconds or an ISO string
+    static final class EpochMillisDeserializer extends StdDeserializer<LocalDateTime> {
+
+        EpochMillisDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) {
+            if (p.isExpectedNumberIntToken()) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(p.getLongValue()), ZoneOffset.UTC);
+            }
+            return LocalDateTime.parse(p.getString().trim());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.taskandbookingmanagement.config;
+
+import com.example.taskandbookingmanagement.metrics.StatementCountFilter;
+import com.example.taskandbookingmanagement.metrics.StatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class MetricsConfig {
+
+    // Lets Hibernate report every prepared statement to the per-request counter
+    @Bean
+    HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    // Outermost filter, so statements run by the security chain (user lookups) are counted too
+    @Bean
+    FilterRegistrationBean<StatementCountFilter> statementCountFilter(
+            MeterRegistry registry,
+            @Value("${app.metrics.statements.warn-threshold:25}") int warnThreshold) {
+        FilterRegistrationBean<StatementCountFilter> bean =
+                new FilterRegistrationBean<>(new StatementCountFilter(registry, warnThreshold));
+        bean.addUrlPatterns("/api/*");
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return bean;
+    }
+}
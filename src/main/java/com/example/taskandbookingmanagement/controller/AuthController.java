@@ -0,0 +1,55 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.dto.LoginRequest;
+import com.example.taskandbookingmanagement.dto.TokenResponse;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import com.example.taskandbookingmanagement.security.TokenService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+
+    public AuthController(AuthenticationManager authenticationManager, TokenService tokenService) {
+        this.authenticationManager = authenticationManager;
+        this.tokenService = tokenService;
+    }
+
+    // POST /api/auth/login – Check the password once (BCrypt) and hand out a short-lived bearer token
+    @PostMapping("/login")
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest req) {
+        Authentication auth;
+        try {
+            auth = authenticationManager.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated(req.getUsername(), req.getPassword()));
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        String role = auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(a -> a.startsWith("ROLE_"))
+                .map(a -> a.substring("ROLE_".length()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("User has no role: " + auth.getName()));
+
+        Long userId = ((AuthenticatedUser) auth.getPrincipal()).getId();
+        TokenService.IssuedToken issued = tokenService.issue(userId, auth.getName(), role);
+
+        TokenResponse r = new TokenResponse();
+        r.setToken(issued.getToken());
+        r.setExpiresAt(issued.getExpiresAt());
+        return ResponseEntity.ok(r);
+    }
+}
@@ -1,30 +1,76 @@
 package com.example.taskandbookingmanagement.controller;
 
+import com.example.taskandbookingmanagement.dto.TaskBulkDecisionRequest;
+import com.example.taskandbookingmanagement.dto.TaskBulkDecisionResponse;
 import com.example.taskandbookingmanagement.dto.TaskCreateRequest;
 import com.example.taskandbookingmanagement.dto.TaskDecisionRequest;
+import com.example.taskandbookingmanagement.dto.TaskFieldsPage;
+import com.example.taskandbookingmanagement.dto.TaskImportResponse;
+import com.example.taskandbookingmanagement.dto.TaskPage;
 import com.example.taskandbookingmanagement.dto.TaskResponse;
+import com.example.taskandbookingmanagement.dto.TaskStatsResponse;
 import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.service.DataVersion;
+import com.example.taskandbookingmanagement.service.TaskEventBroadcaster;
+import com.example.taskandbookingmanagement.service.TaskFields;
+import com.example.taskandbookingmanagement.service.TaskImportService;
 import com.example.taskandbookingmanagement.service.TaskService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.Principal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    static final String NDJSON = "application/x-ndjson";
+
+    // Browsers may keep the list but must ask with If-None-Match every time
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    static final List<String> CSV_COLUMNS = List.of("id", "title", "description", "status", "priority",
+            "taskDateTime", "durationMinutes", "assignedUsername", "createdByUsername", "decisionByUsername", "decisionAt",
+            "createdAt", "updatedAt");
+
+    static final String CSV_HEADER = String.join(",", CSV_COLUMNS) + "\n";
+
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final DataVersion dataVersion;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskImportService taskImportService,
+                          TaskEventBroadcaster taskEventBroadcaster, DataVersion dataVersion) {
         this.taskService = taskService;
+        this.taskImportService = taskImportService;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.dataVersion = dataVersion;
     }
 
     // POST /api/tasks – Create task
@@ -33,60 +79,207 @@ public class TaskController {
         return taskService.createTask(req);
     }
 
-    // GET /api/tasks – List tasks (filter + sort)
+    // GET /api/tasks – List tasks (filter + sort), one page at a time
+    // GET /api/tasks?status=PENDING&sortBy=taskDateTime&sortDir=asc&limit=50&after=<X-Next-Cursor>
+    // GET /api/tasks?from=2026-01-01T00:00:00&to=2026-02-01T00:00:00 – taskDateTime window (calendar)
+    // Body stays a plain array; the cursor for the next page comes back in the X-Next-Cursor header
+    // Strong ETag from DataVersion + parameters: If-None-Match answers 304 without touching the database
+    // Accept: application/cbor gets the same page as compact CBOR (see CborConfig)
+    // GET /api/tasks?fields=id,title,status,priority,taskDateTime – only those columns are selected and sent
+    // GET /api/tasks?archived=true – tasks moved to the archive (see TaskArchiveService) instead of current ones
+    // A USER only gets tasks assigned to or created by them (here, in search and in export); MANAGER/ADMIN get all
     @GetMapping
-    public List<TaskResponse> list(
+    public ResponseEntity<List<?>> list(
             @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDir
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean archived,
+            Principal principal,
+            WebRequest request
+    ) {
+        List<String> columns = TaskFields.parse(fields);
+        if (archived && columns == null) {
+            columns = TaskFields.all(); // archived rows are read as tuples too
+        }
+
+        // JSON and CBOR bodies differ, so the representation is part of the tag; a USER sees only their own
+        // rows, so the caller is part of it too
+        String etag = dataVersion.tasksTag(principal.getName(), status, from, to, sortBy, sortDir, after, limit,
+                columns, archived, request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+
+        List<?> items;
+        String nextCursor;
+        if (columns == null) {
+            TaskPage page = taskService.listTasksPage(status, from, to, sortBy, sortDir, after, limit);
+            items = page.getItems();
+            nextCursor = page.getNextCursor();
+        } else {
+            TaskFieldsPage page =
+                    taskService.listTaskFieldsPage(status, from, to, sortBy, sortDir, after, limit, columns, archived);
+            items = page.getItems();
+            nextCursor = page.getNextCursor();
+        }
+
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT);
+        if (nextCursor != null) {
+            res.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return res.body(items);
+    }
+
+    // GET /api/tasks/mine?role=assignee|creator – the caller's own tasks (default: assigned to them)
+    // GET /api/tasks/mine?role=creator&status=PENDING&sortDir=desc&limit=50&after=<X-Next-Cursor>
+    // Always in taskDateTime order; same from/to window, paging, ETag and body as GET /api/tasks
+    @GetMapping("/mine")
+    public ResponseEntity<List<TaskResponse>> mine(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            Principal principal,
+            WebRequest request
+    ) {
+        // Same parameters, different caller, different rows: the username is part of the tag
+        String etag = dataVersion.tasksTag("mine", principal.getName(), role, status, from, to, sortDir, after,
+                limit, request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+
+        TaskPage page = taskService.listMyTasksPage(role, status, from, to, sortDir, after, limit);
+
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT);
+        if (page.getNextCursor() != null) {
+            res.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return res.body(page.getItems());
+    }
+
+    // GET /api/tasks/search?q=design rev&status=PENDING&limit=20 – Full-text search on title/description
+    // Every word must match, as a word or the start of one; best matches first
+    @GetMapping("/search")
+    public List<TaskResponse> search(
+            @RequestParam String q,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Integer limit
     ) {
-        return taskService.listTasks(status, sortBy, sortDir);
+        return taskService.searchTasks(q, status, limit);
+    }
+
+    // GET /api/tasks/stream – Server-Sent Events: "created", "decided" and "refresh" deltas as they commit
+    // USER gets tasks assigned to them, MANAGER/ADMIN everything. Use EventSource; it reconnects on its own.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return taskEventBroadcaster.subscribe();
+    }
+
+    // GET /api/tasks/stats – Counts per status and priority (dashboard), over the caller's tasks for USER
+    @GetMapping("/stats")
+    public TaskStatsResponse stats() {
+        return taskService.getStats();
+    }
+
+    // POST /api/tasks/import – Bulk create from the raw request body, read as a stream
+    // Content-Type: text/csv (export columns, header row) or application/x-ndjson (one TaskCreateRequest per line,
+    // assignedUsername accepted instead of assignedUserId). Bad rows are skipped and reported by line number.
+    @PostMapping(value = "/import", consumes = {"text/csv", NDJSON})
+    public TaskImportResponse importTasks(HttpServletRequest request) throws IOException {
+        MediaType type = MediaType.parseMediaType(request.getContentType());
+        TaskImportService.Format format = type.isCompatibleWith(MediaType.parseMediaType(NDJSON))
+                ? TaskImportService.Format.NDJSON
+                : TaskImportService.Format.CSV;
+        Charset charset = (type.getCharset() != null) ? type.getCharset() : StandardCharsets.UTF_8;
+
+        try {
+            return taskImportService.importTasks(format, new InputStreamReader(request.getInputStream(), charset));
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // upload broke off
+        }
     }
 
     // PUT /api/tasks/{id}/approve – Approve/reject task (Manager OR Admin)
+    // Body: {"decision":"APPROVE","version":3}; version is optional. 409 if someone else decided first.
     @PutMapping("/{id}/approve")
     @PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
     public TaskResponse approveOrReject(
             @PathVariable Long id,
             @Valid @RequestBody TaskDecisionRequest req
     ) {
-        return taskService.decide(id, req.getDecision());
+        return taskService.decide(id, req.getDecision(), req.getVersion());
+    }
+
+    // PUT /api/tasks/approve – Approve/reject many tasks at once (Manager OR Admin)
+    // Body: {"ids":[1,2,3],"decision":"APPROVE"}; tasks that are no longer PENDING come back in "skipped"
+    @PutMapping("/approve")
+    @PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
+    public TaskBulkDecisionResponse approveOrRejectAll(@Valid @RequestBody TaskBulkDecisionRequest req) {
+        return taskService.decideAll(req.getIds(), req.getDecision());
     }
 
-    // ✅ CSV Export
+    // ✅ CSV Export (streamed: rows go straight to the response, nothing is buffered)
     // GET /api/tasks/export?status=PENDING&sortBy=taskDateTime&sortDir=asc
+    // GET /api/tasks/export?fields=id,title,status – only those columns, in TaskResponse order
+    // GET /api/tasks/export?archived=true – archived tasks instead of current ones
     @GetMapping(value = "/export", produces = "text/csv")
-    public ResponseEntity<byte[]> exportCsv(
+    public void exportCsv(
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDir
-    ) {
-        List<TaskResponse> tasks = taskService.listTasks(status, sortBy, sortDir);
-
-        String csv = toCsv(tasks);
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean archived,
+            HttpServletResponse response
+    ) throws IOException {
+        List<String> columns = TaskFields.parse(fields);
+        if (archived && columns == null) {
+            columns = CSV_COLUMNS;
+        }
 
         String ts = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
         String filename = "tasks-" + ts + ".csv";
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
-                .body(csv.getBytes(StandardCharsets.UTF_8));
-    }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        response.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8).toString());
 
-    private String toCsv(List<TaskResponse> tasks) {
-        StringBuilder sb = new StringBuilder();
-
-        // Header
-        sb.append("id,title,description,status,priority,taskDateTime,assignedUsername,createdByUsername,decisionByUsername,decisionAt,createdAt,updatedAt\n");
+        Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        try {
+            if (columns == null) {
+                out.write(CSV_HEADER);
+                taskService.exportTasks(status, sortBy, sortDir, t -> writeCsvRow(out, t));
+            } else {
+                out.write(String.join(",", columns) + "\n");
+                taskService.exportTaskFields(status, sortBy, sortDir, columns, archived,
+                        row -> writeCsvRow(out, row.values()));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // client went away mid-download
+        }
+        out.flush();
+    }
 
-        for (TaskResponse t : tasks) {
-            sb.append(csv(t.getId()))
+    static void writeCsvRow(Writer out, TaskResponse t) {
+        try {
+            out.append(csv(t.getId()))
                     .append(',').append(csv(t.getTitle()))
                     .append(',').append(csv(t.getDescription()))
                     .append(',').append(csv(t.getStatus()))
                     .append(',').append(csv(t.getPriority()))
                     .append(',').append(csv(t.getTaskDateTime()))
+                    .append(',').append(csv(t.getDurationMinutes()))
                     .append(',').append(csv(t.getAssignedUsername()))
                     .append(',').append(csv(t.getCreatedByUsername()))
                     .append(',').append(csv(t.getDecisionByUsername()))
@@ -94,13 +287,27 @@ public class TaskController {
                     .append(',').append(csv(t.getCreatedAt()))
                     .append(',').append(csv(t.getUpdatedAt()))
                     .append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+    }
 
-        return sb.toString();
+    static void writeCsvRow(Writer out, Collection<?> values) {
+        try {
+            boolean first = true;
+            for (Object value : values) {
+                if (!first) out.append(',');
+                out.append(csv(value));
+                first = false;
+            }
+            out.append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     // CSV escaping: wrap in quotes if needed, escape quotes by doubling them
-    private String csv(Object value) {
+    static String csv(Object value) {
         if (value == null) return "";
         String s = String.valueOf(value);
         boolean needsQuotes = s.contains(",") || s.contains("\"") || s.contains("\n") || s.contains("\r");
@@ -1,9 +1,18 @@
 package com.example.taskandbookingmanagement.controller;
 
+import com.example.taskandbookingmanagement.dto.CacheStatsResponse;
 import com.example.taskandbookingmanagement.dto.UserResponse;
-import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import com.example.taskandbookingmanagement.service.DataVersion;
+import com.example.taskandbookingmanagement.service.UserDirectory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -11,23 +20,25 @@ import java.util.List;
 @RequestMapping("/api")
 public class UserController {
 
-    private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
+    private final DataVersion dataVersion;
 
-    public UserController(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public UserController(UserDirectory userDirectory, DataVersion dataVersion) {
+        this.userDirectory = userDirectory;
+        this.dataVersion = dataVersion;
     }
 
-    // Used for dropdown in "Create Task"
+    // Used for dropdown in "Create Task"; 304 on If-None-Match while no user changed
+    // JSON, or CBOR for Accept: application/cbor
     @GetMapping("/users")
-    public List<UserResponse> listUsers() {
-        return userRepository.findAll().stream().map(u -> {
-            UserResponse r = new UserResponse();
-            r.setId(u.getId());
-            r.setName(u.getName());
-            r.setUsername(u.getUsername());
-            r.setRole(u.getRole());
-            return r;
-        }).toList();
+    public ResponseEntity<List<UserResponse>> listUsers(WebRequest request) {
+        String etag = dataVersion.usersTag(request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(TaskController.REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(TaskController.REVALIDATE).varyBy(HttpHeaders.ACCEPT)
+                .body(userDirectory.findAll().stream().map(this::toResponse).toList());
     }
 
     // Used to know "who am I" + role for UI authorization (show approve button if MANAGER)
@@ -35,14 +46,27 @@ public class UserController {
     public UserResponse me(Authentication authentication) {
         String username = authentication.getName();
 
-        var user = userRepository.findByUsername(username)
+        var user = (authentication.getPrincipal() instanceof AuthenticatedUser principal
+                ? userDirectory.findById(principal.getId())
+                : userDirectory.findByUsername(username))
                 .orElseThrow(() -> new IllegalStateException("Logged-in user not found in DB: " + username));
 
+        return toResponse(user);
+    }
+
+    // GET /api/users/cache-stats – hit/miss counters of the user cache
+    @GetMapping("/users/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CacheStatsResponse cacheStats() {
+        return userDirectory.getStats();
+    }
+
+    private UserResponse toResponse(User u) {
         UserResponse r = new UserResponse();
-        r.setId(user.getId());
-        r.setName(user.getName());
-        r.setUsername(user.getUsername());
-        r.setRole(user.getRole());
+        r.setId(u.getId());
+        r.setName(u.getName());
+        r.setUsername(u.getUsername());
+        r.setRole(u.getRole());
         return r;
     }
 }
@@ -0,0 +1,25 @@
+package com.example.taskandbookingmanagement.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class TaskBulkDecisionRequest {
+
+    public static final int MAX_IDS = 5000;
+
+    @NotEmpty
+    @Size(max = MAX_IDS)
+    private List<@NotNull Long> ids;
+
+    @NotNull
+    private TaskDecisionRequest.Decision decision;
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public TaskDecisionRequest.Decision getDecision() { return decision; }
+    public void setDecision(TaskDecisionRequest.Decision decision) { this.decision = decision; }
+}
@@ -0,0 +1,24 @@
+package com.example.taskandbookingmanagement.dto;
+
+import java.util.List;
+
+public class TaskBulkDecisionResponse {
+    // Ids that went from PENDING to the new status in this call
+    private List<Long> transitioned;
+    // Ids that were not PENDING (already decided) or do not exist
+    private List<Long> skipped;
+
+    public TaskBulkDecisionResponse() {
+    }
+
+    public TaskBulkDecisionResponse(List<Long> transitioned, List<Long> skipped) {
+        this.transitioned = transitioned;
+        this.skipped = skipped;
+    }
+
+    public List<Long> getTransitioned() { return transitioned; }
+    public void setTransitioned(List<Long> transitioned) { this.transitioned = transitioned; }
+
+    public List<Long> getSkipped() { return skipped; }
+    public void setSkipped(List<Long> skipped) { this.skipped = skipped; }
+}
@@ -3,6 +3,7 @@ package com.example.taskandbookingmanagement.dto;
 import com.example.taskandbookingmanagement.model.Priority;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 import java.time.LocalDateTime;
 
@@ -16,6 +17,10 @@ public class TaskCreateRequest {
     @NotNull
     private LocalDateTime taskDateTime;
 
+    // Optional: without it the task books the instant taskDateTime
+    @Positive
+    private Integer durationMinutes;
+
     @NotNull
     private Priority priority;
 
@@ -31,6 +36,9 @@ public class TaskCreateRequest {
     public LocalDateTime getTaskDateTime() { return taskDateTime; }
     public void setTaskDateTime(LocalDateTime taskDateTime) { this.taskDateTime = taskDateTime; }
 
+    public Integer getDurationMinutes() { return durationMinutes; }
+    public void setDurationMinutes(Integer durationMinutes) { this.durationMinutes = durationMinutes; }
+
     public Priority getPriority() { return priority; }
     public void setPriority(Priority priority) { this.priority = priority; }
 
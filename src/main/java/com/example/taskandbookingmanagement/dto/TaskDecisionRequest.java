@@ -9,6 +9,13 @@ public class TaskDecisionRequest {
     @NotNull
     private Decision decision;
 
+    // Optional: the task version the client last saw. When set, the decision fails with 409
+    // if the task changed since then, not just if it was already decided.
+    private Long version;
+
     public Decision getDecision() { return decision; }
     public void setDecision(Decision decision) { this.decision = decision; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
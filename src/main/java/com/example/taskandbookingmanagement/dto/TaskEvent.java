@@ -0,0 +1,80 @@
+package com.example.taskandbookingmanagement.dto;
+
+import com.example.taskandbookingmanagement.model.Priority;
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+// Delta pushed on GET /api/tasks/stream; only the fields that changed are set
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskEvent {
+
+    public static final String CREATED = "created";
+    public static final String DECIDED = "decided";
+    // Many tasks changed at once (bulk decision, import): clients reload what they show
+    public static final String REFRESH = "refresh";
+
+    private String type;
+    private Long taskId;
+    private Long version;
+    private TaskStatus status;
+
+    private String title;
+    private Priority priority;
+    private LocalDateTime taskDateTime;
+    private Long assignedUserId;
+    private String assignedUsername;
+    private String createdByUsername;
+
+    private String decisionByUsername;
+    private LocalDateTime decisionAt;
+
+    public static TaskEvent created(Task t) {
+        TaskEvent e = of(CREATED, t);
+        e.title = t.getTitle();
+        e.priority = t.getPriority();
+        e.taskDateTime = t.getTaskDateTime();
+        e.assignedUsername = t.getAssignedUser().getUsername();
+        e.createdByUsername = t.getCreatedBy().getUsername();
+        return e;
+    }
+
+    public static TaskEvent decided(Task t) {
+        TaskEvent e = of(DECIDED, t);
+        e.decisionByUsername = t.getDecisionBy() == null ? null : t.getDecisionBy().getUsername();
+        e.decisionAt = t.getDecisionAt();
+        return e;
+    }
+
+    public static TaskEvent refresh() {
+        TaskEvent e = new TaskEvent();
+        e.type = REFRESH;
+        return e;
+    }
+
+    private static TaskEvent of(String type, Task t) {
+        TaskEvent e = new TaskEvent();
+        e.type = type;
+        e.taskId = t.getId();
+        e.version = t.getVersion();
+        e.status = t.getStatus();
+        e.assignedUserId = t.getAssignedUser().getId();
+        return e;
+    }
+
+    // getters (events are built by the factories above)
+    public String getType() { return type; }
+    public Long getTaskId() { return taskId; }
+    public Long getVersion() { return version; }
+    public TaskStatus getStatus() { return status; }
+    public String getTitle() { return title; }
+    public Priority getPriority() { return priority; }
+    public LocalDateTime getTaskDateTime() { return taskDateTime; }
+    public Long getAssignedUserId() { return assignedUserId; }
+    public String getAssignedUsername() { return assignedUsername; }
+    public String getCreatedByUsername() { return createdByUsername; }
+    public String getDecisionByUsername() { return decisionByUsername; }
+    public LocalDateTime getDecisionAt() { return decisionAt; }
+}
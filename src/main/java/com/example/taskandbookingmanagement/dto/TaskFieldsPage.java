@@ -0,0 +1,23 @@
+package com.example.taskandbookingmanagement.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// TaskPage for ?fields=: each item holds only the requested TaskResponse properties
+public class TaskFieldsPage {
+    private List<Map<String, Object>> items;
+
+    // null when there are no more rows
+    private String nextCursor;
+
+    public TaskFieldsPage(List<Map<String, Object>> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Map<String, Object>> getItems() { return items; }
+    public void setItems(List<Map<String, Object>> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
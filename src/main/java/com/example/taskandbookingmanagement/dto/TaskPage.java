@@ -0,0 +1,21 @@
+package com.example.taskandbookingmanagement.dto;
+
+import java.util.List;
+
+public class TaskPage {
+    private List<TaskResponse> items;
+
+    // null when there are no more rows
+    private String nextCursor;
+
+    public TaskPage(List<TaskResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TaskResponse> getItems() { return items; }
+    public void setItems(List<TaskResponse> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
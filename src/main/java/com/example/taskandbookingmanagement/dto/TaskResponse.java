@@ -7,11 +7,13 @@ import java.time.LocalDateTime;
 
 public class TaskResponse {
     private Long id;
+    private long version;
     private String title;
     private String description;
     private TaskStatus status;
     private Priority priority;
     private LocalDateTime taskDateTime;
+    private Integer durationMinutes;
 
     private Long assignedUserId;
     private String assignedUsername;
@@ -29,6 +31,9 @@ public class TaskResponse {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
@@ -44,6 +49,9 @@ public class TaskResponse {
     public LocalDateTime getTaskDateTime() { return taskDateTime; }
     public void setTaskDateTime(LocalDateTime taskDateTime) { this.taskDateTime = taskDateTime; }
 
+    public Integer getDurationMinutes() { return durationMinutes; }
+    public void setDurationMinutes(Integer durationMinutes) { this.durationMinutes = durationMinutes; }
+
     public Long getAssignedUserId() { return assignedUserId; }
     public void setAssignedUserId(Long assignedUserId) { this.assignedUserId = assignedUserId; }
 
@@ -0,0 +1,21 @@
+package com.example.taskandbookingmanagement.dto;
+
+import com.example.taskandbookingmanagement.model.Priority;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+
+import java.util.Map;
+
+public class TaskStatsResponse {
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<Priority, Long> byPriority;
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public Map<TaskStatus, Long> getByStatus() { return byStatus; }
+    public void setByStatus(Map<TaskStatus, Long> byStatus) { this.byStatus = byStatus; }
+
+    public Map<Priority, Long> getByPriority() { return byPriority; }
+    public void setByPriority(Map<Priority, Long> byPriority) { this.byPriority = byPriority; }
+}
@@ -0,0 +1,18 @@
+package com.example.taskandbookingmanagement.dto;
+
+import java.time.Instant;
+
+public class TokenResponse {
+    private String token;
+    private String tokenType = "Bearer";
+    private Instant expiresAt;
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+
+    public String getTokenType() { return tokenType; }
+    public void setTokenType(String tokenType) { this.tokenType = tokenType; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+}
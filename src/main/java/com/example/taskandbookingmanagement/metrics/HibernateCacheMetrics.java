@@ -0,0 +1,71 @@
+package com.example.taskandbookingmanagement.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Second-level and query cache meters, one set per region (see hibernate-cache.conf):
+ *
+ *   hibernate.cache.requests{region, result}   hit or miss
+ *   hibernate.cache.puts{region}               entries written
+ *   hibernate.cache.hit.ratio{region}          hits / (hits + misses), NaN before the first lookup
+ *
+ * Read from Hibernate statistics (hibernate.generate_statistics) on every scrape.
+ */
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            FunctionCounter.builder("hibernate.cache.requests", statistics,
+                            s -> count(s, region, CacheRegionStatistics::getHitCount))
+                    .description("Second-level/query cache lookups")
+                    .tag("region", region).tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.requests", statistics,
+                            s -> count(s, region, CacheRegionStatistics::getMissCount))
+                    .description("Second-level/query cache lookups")
+                    .tag("region", region).tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.puts", statistics,
+                            s -> count(s, region, CacheRegionStatistics::getPutCount))
+                    .description("Entries written to the region")
+                    .tag("region", region)
+                    .register(registry);
+            Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+                    .description("Share of lookups answered by the region")
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    // Looked up on every read: Statistics.clear() replaces the per-region objects
+    private static double count(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> value) {
+        CacheRegionStatistics r = statistics.getCacheRegionStatistics(region);
+        return (r == null) ? 0 : value.applyAsLong(r);
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        double hits = count(statistics, region, CacheRegionStatistics::getHitCount);
+        double lookups = hits + count(statistics, region, CacheRegionStatistics::getMissCount);
+        return (lookups == 0) ? Double.NaN : hits / lookups;
+    }
+}
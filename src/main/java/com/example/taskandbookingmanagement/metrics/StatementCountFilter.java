@@ -0,0 +1,59 @@
+package com.example.taskandbookingmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request ran as jdbc.statements{method, uri}.
+ * uri is the matched route pattern (/api/tasks/{id}/approve), so N+1 regressions show up per endpoint.
+ * Requests above the warn threshold are also logged.
+ */
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementCountFilter.class);
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    public StatementCountFilter(MeterRegistry registry, int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        StatementCounter.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int count = StatementCounter.end();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = (pattern != null) ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("jdbc.statements")
+                    .description("SQL statements executed per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry)
+                    .record(count);
+
+            if (count > warnThreshold) {
+                log.warn("{} SQL statements for {} {} (threshold {})", count, request.getMethod(), uri, warnThreshold);
+            }
+        }
+    }
+}
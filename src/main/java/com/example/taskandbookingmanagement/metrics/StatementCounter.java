@@ -0,0 +1,33 @@
+package com.example.taskandbookingmanagement.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hook that counts the SQL statements prepared on the current thread.
+ * Counting only happens between begin() and end(), i.e. inside a request (see StatementCountFilter);
+ * background threads pay one ThreadLocal read per statement.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    // Statements since begin(), 0 if no count was open
+    public static int end() {
+        int[] c = COUNT.get();
+        COUNT.remove();
+        return c == null ? 0 : c[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] c = COUNT.get();
+        if (c != null) {
+            c[0]++;
+        }
+        return sql;
+    }
+}
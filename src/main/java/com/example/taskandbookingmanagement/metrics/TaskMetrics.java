@@ -0,0 +1,74 @@
+package com.example.taskandbookingmanagement.metrics;
+
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Meters for the task hot paths, exposed on /actuator/metrics and /actuator/prometheus.
+ *
+ *   tasks.operation{operation, outcome}   timer, p50/p95/p99 + histogram
+ *   tasks.result.size{operation}          rows returned/exported per call
+ *   tasks.transitions{from, to}           status changes
+ *
+ * outcome is success or error, so failed calls do not skew the latency of good ones.
+ */
+@Component
+public class TaskMetrics {
+
+    public static final String CREATE = "create";
+    public static final String PAGE = "page";
+    public static final String MINE = "mine";
+    public static final String SEARCH = "search";
+    public static final String DECIDE = "decide";
+    public static final String BULK_DECIDE = "bulk-decide";
+    public static final String EXPORT = "export";
+    public static final String IMPORT = "import";
+    public static final String ARCHIVE = "archive";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry;
+
+    public TaskMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <T> T time(String operation, Supplier<T> body) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "error";
+        try {
+            T result = body.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("tasks.operation")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    public void resultSize(String operation, int rows) {
+        DistributionSummary.builder("tasks.result.size")
+                .baseUnit("rows")
+                .tag("operation", operation)
+                .publishPercentiles(PERCENTILES)
+                .register(registry)
+                .record(rows);
+    }
+
+    public void transition(TaskStatus from, TaskStatus to) {
+        transition(from, to, 1);
+    }
+
+    public void transition(TaskStatus from, TaskStatus to, long count) {
+        registry.counter("tasks.transitions", "from", from.name(), "to", to.name()).increment(count);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.taskandbookingmanagement.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A decided task moved out of "tasks" by TaskArchiveService, so the working table only holds
+ * pending and recently decided rows. Same columns (and attribute names) as Task, plus archivedAt;
+ * the id is the one the task had. Rows are written with INSERT ... SELECT and never changed.
+ */
+@Entity
+// Schema and indexes: db/migration (Flyway)
+@Table(name = "tasks_archive")
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Priority priority;
+
+    @Column(nullable = false)
+    private LocalDateTime taskDateTime;
+
+    private Integer durationMinutes;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_user_id")
+    private User assignedUser;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by_user_id")
+    private User createdBy;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime decisionAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "decision_by_user_id")
+    private User decisionBy;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // ---- getters ----
+    public Long getId() { return id; }
+
+    public long getVersion() { return version; }
+
+    public String getTitle() { return title; }
+
+    public String getDescription() { return description; }
+
+    public TaskStatus getStatus() { return status; }
+
+    public Priority getPriority() { return priority; }
+
+    public LocalDateTime getTaskDateTime() { return taskDateTime; }
+
+    public Integer getDurationMinutes() { return durationMinutes; }
+
+    public User getAssignedUser() { return assignedUser; }
+
+    public User getCreatedBy() { return createdBy; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public LocalDateTime getDecisionAt() { return decisionAt; }
+
+    public User getDecisionBy() { return decisionBy; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -1,17 +1,31 @@
 package com.example.taskandbookingmanagement.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+// Second-level cache (see hibernate-cache.conf); bulk UPDATE/DELETE on tasks evicts the region
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
+// Schema and indexes: db/migration (Flyway)
 @Table(name = "tasks")
 public class Task {
 
+    // Pooled sequence instead of IDENTITY: ids are known before the INSERT, so Hibernate can batch
+    // inserts (bulk import) and fetches a new block of 50 ids only every 50 rows
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic lock: every UPDATE (entity flush or TaskRepository.compareAndSetStatus) bumps it
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Column(nullable = false)
     private String title;
 
@@ -30,6 +44,9 @@ public class Task {
     @Column(nullable = false)
     private LocalDateTime taskDateTime;
 
+    // How long the booking lasts; null books the instant taskDateTime only (see BookingIndex)
+    private Integer durationMinutes;
+
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_user_id")
     private User assignedUser;
@@ -58,9 +75,21 @@ public class Task {
         updatedAt = LocalDateTime.now();
     }
 
+    // Mirrors TaskRepository.compareAndSetStatus on an instance that is no longer managed
+    // (that UPDATE clears the persistence context), so the response shows the committed row
+    public void recordDecision(TaskStatus status, User decisionBy, LocalDateTime decisionAt) {
+        this.status = status;
+        this.decisionBy = decisionBy;
+        this.decisionAt = decisionAt;
+        this.updatedAt = decisionAt;
+        this.version++;
+    }
+
     // ---- getters/setters ----
     public Long getId() { return id; }
 
+    public long getVersion() { return version; }
+
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
@@ -76,6 +105,9 @@ public class Task {
     public LocalDateTime getTaskDateTime() { return taskDateTime; }
     public void setTaskDateTime(LocalDateTime taskDateTime) { this.taskDateTime = taskDateTime; }
 
+    public Integer getDurationMinutes() { return durationMinutes; }
+    public void setDurationMinutes(Integer durationMinutes) { this.durationMinutes = durationMinutes; }
+
     public User getAssignedUser() { return assignedUser; }
     public void setAssignedUser(User assignedUser) { this.assignedUser = assignedUser; }
 
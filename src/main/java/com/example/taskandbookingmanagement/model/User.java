@@ -1,8 +1,15 @@
 package com.example.taskandbookingmanagement.model;
 
+import com.example.taskandbookingmanagement.service.UserCacheInvalidator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@EntityListeners(UserCacheInvalidator.class)
+// Second-level cache (see hibernate-cache.conf): read on almost every request, rarely written
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users") // 'user' can be reserved in some DBs
 public class User {
 
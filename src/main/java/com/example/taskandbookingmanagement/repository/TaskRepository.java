@@ -1,12 +1,218 @@
 package com.example.taskandbookingmanagement.repository;
 
+import com.example.taskandbookingmanagement.model.Priority;
 import com.example.taskandbookingmanagement.model.Task;
 import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByStatus(TaskStatus status, Sort sort);
+// Keyset-paged listing goes through JpaSpecificationExecutor.findBy(spec, q -> q.scroll(position))
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    // JDBC fetch size used by the streaming queries
+    int STREAM_FETCH_SIZE = 500;
+
+    // Query cache region for the dashboard counts (see hibernate-cache.conf).
+    // Hibernate drops its entries whenever it writes to the tasks table.
+    String QUERY_CACHE_REGION = "task-queries";
+
+    // Forward-only cursors for export: rows come from JDBC in chunks, never as one list.
+    // They load the users read by TaskService.toResponse in the same SELECT, so mapping N tasks
+    // does not issue N extra "select ... from users" statements.
+    // Must be consumed inside a transaction and closed afterwards.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy", "decisionBy"})
+    Stream<Task> streamAllBy(Sort sort);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy", "decisionBy"})
+    Stream<Task> streamByStatus(TaskStatus status, Sort sort);
+
+    // Search index rebuild: only the indexed columns and the owner ids (foreign keys), no entities, no join
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select t.id as id, t.title as title, t.description as description, t.status as status,
+                   t.assignedUser.id as assignedUserId, t.createdBy.id as createdById
+            from Task t
+            """)
+    Stream<SearchRow> streamSearchRows();
+
+    // Search hits, in one SELECT with the users toResponse reads
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy", "decisionBy"})
+    List<Task> findByIdIn(Collection<Long> ids);
+
+    // Bulk decision: one conditional UPDATE, rows no longer in "from" are left alone.
+    // Bypasses the persistence context (and @PreUpdate), hence updatedAt is set here.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+               set t.status = :to, t.decisionBy = :actor, t.decisionAt = :at, t.updatedAt = :at,
+                   t.version = t.version + 1
+             where t.id in :ids and t.status = :from
+            """)
+    int transitionAll(@Param("ids") Collection<Long> ids,
+                      @Param("from") TaskStatus from,
+                      @Param("to") TaskStatus to,
+                      @Param("actor") User actor,
+                      @Param("at") LocalDateTime at);
+
+    // Single decision as compare-and-set: applies only if the row is still in "from" at the version
+    // the caller read. Returns 0 when another request got there first; no row lock is held beyond the UPDATE.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+               set t.status = :to, t.decisionBy = :actor, t.decisionAt = :at, t.updatedAt = :at,
+                   t.version = t.version + 1
+             where t.id = :id and t.status = :from and t.version = :version
+            """)
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("from") TaskStatus from,
+                            @Param("version") long version,
+                            @Param("to") TaskStatus to,
+                            @Param("actor") User actor,
+                            @Param("at") LocalDateTime at);
+
+    // decide() reads the task with the users its notifications and response need, since the
+    // compareAndSetStatus UPDATE detaches it before they are read
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    Optional<Task> findWithUsersById(Long id);
+
+    // Rows changed by the transitionAll call above: same actor, same decision timestamp
+    @Query("""
+            select t from Task t
+              join fetch t.assignedUser
+              join fetch t.createdBy
+             where t.id in :ids and t.status = :status and t.decisionBy = :actor and t.decisionAt = :at
+            """)
+    List<Task> findDecided(@Param("ids") Collection<Long> ids,
+                           @Param("status") TaskStatus status,
+                           @Param("actor") User actor,
+                           @Param("at") LocalDateTime at);
+
+    // One user's bookings (see BookingIndex), read through idx_tasks_assigned_status_date.
+    // COMMIT flush mode: a task saved but not yet flushed by the caller must not be read back as its own clash.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("""
+            select t.id as id, t.taskDateTime as taskDateTime, t.durationMinutes as durationMinutes from Task t
+             where t.assignedUser.id = :userId and t.status in :statuses
+            """)
+    List<BookingRow> findBookings(@Param("userId") Long userId,
+                                  @Param("statuses") Collection<TaskStatus> statuses);
+
+    // Archiving (see TaskArchiveService): the oldest decided tasks, one batch at a time
+    @Query("""
+            select t.id as id, t.status as status, t.priority as priority,
+                   t.assignedUser.id as assignedUserId from Task t
+             where t.status in :statuses and t.decisionAt < :before
+             order by t.id
+            """)
+    List<ArchiveRow> findArchivable(@Param("statuses") Collection<TaskStatus> statuses,
+                                    @Param("before") LocalDateTime before,
+                                    Limit limit);
+
+    // Copies the rows as they are, foreign keys included, so no users are read or joined.
+    // Declares the one table it writes: an undeclared native statement would clear every cache region.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks_archive"))
+    @Query(nativeQuery = true, value = """
+            insert into tasks_archive (id, version, title, description, status, priority, task_date_time,
+                                       duration_minutes, assigned_user_id, created_by_user_id, decision_by_user_id, decision_at,
+                                       created_at, updated_at, archived_at)
+            select id, version, title, description, status, priority, task_date_time,
+                   duration_minutes, assigned_user_id, created_by_user_id, decision_by_user_id, decision_at,
+                   created_at, updated_at, :at
+              from tasks where id in (:ids)
+            """)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("at") LocalDateTime at);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // Grouped counts for the dashboard (one row per status/priority, not per task), query-cached
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("select t.status as status, count(t) as total from Task t group by t.status")
+    List<StatusCount> countGroupedByStatus();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("select t.priority as priority, count(t) as total from Task t group by t.priority")
+    List<PriorityCount> countGroupedByPriority();
+
+    // Same counts over the tasks a USER sees: assigned to or created by them
+    @Query("""
+            select t.status as status, count(t) as total from Task t
+             where t.assignedUser.id = :userId or t.createdBy.id = :userId
+             group by t.status
+            """)
+    List<StatusCount> countGroupedByStatusInvolving(@Param("userId") Long userId);
+
+    @Query("""
+            select t.priority as priority, count(t) as total from Task t
+             where t.assignedUser.id = :userId or t.createdBy.id = :userId
+             group by t.priority
+            """)
+    List<PriorityCount> countGroupedByPriorityInvolving(@Param("userId") Long userId);
+
+    interface StatusCount {
+        TaskStatus getStatus();
+        long getTotal();
+    }
+
+    interface SearchRow {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        TaskStatus getStatus();
+        Long getAssignedUserId();
+        Long getCreatedById();
+    }
+
+    interface BookingRow {
+        Long getId();
+        LocalDateTime getTaskDateTime();
+        Integer getDurationMinutes();
+    }
+
+    interface ArchiveRow {
+        Long getId();
+        TaskStatus getStatus();
+        Priority getPriority();
+        Long getAssignedUserId();
+    }
+
+    interface PriorityCount {
+        Priority getPriority();
+        long getTotal();
+    }
 }
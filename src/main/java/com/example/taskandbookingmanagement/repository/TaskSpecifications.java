@@ -0,0 +1,94 @@
+package com.example.taskandbookingmanagement.repository;
+
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// Composable filters for TaskRepository; a null argument means "no filter".
+// The predicate overloads build the same filter on any root with the Task attributes (Task or ArchivedTask),
+// for hand-written criteria queries over either table.
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> hasStatus(status, root, cb);
+    }
+
+    public static Predicate hasStatus(TaskStatus status, From<?, ?> root, CriteriaBuilder cb) {
+        return status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    // Compared on the foreign key column: no join to users
+    public static Specification<Task> assignedTo(Long userId) {
+        return (root, query, cb) -> userId == null ? null : cb.equal(root.get("assignedUser").get("id"), userId);
+    }
+
+    public static Specification<Task> createdBy(Long userId) {
+        return (root, query, cb) -> userId == null ? null : cb.equal(root.get("createdBy").get("id"), userId);
+    }
+
+    // Assigned to or created by the user: id in (ids by assignee union ids by creator), so each half is an
+    // owner index seek; "assigned = ? or created_by = ?" would have to read every row
+    public static Specification<Task> involves(Long userId) {
+        return (root, query, cb) -> involves(userId, root, query, cb);
+    }
+
+    public static Predicate involves(Long userId, From<?, ?> root, AbstractQuery<?> query, CriteriaBuilder cb) {
+        if (userId == null) {
+            return null;
+        }
+        Subquery<Long> assigned = idsOwnedBy(userId, "assignedUser", root.getJavaType(), query, cb);
+        Subquery<Long> created = idsOwnedBy(userId, "createdBy", root.getJavaType(), query, cb);
+        return root.get("id").in(((HibernateCriteriaBuilder) cb).union(assigned, created));
+    }
+
+    // taskDateTime >= from
+    public static Specification<Task> taskDateFrom(LocalDateTime from) {
+        return (root, query, cb) -> taskDateFrom(from, root, cb);
+    }
+
+    public static Predicate taskDateFrom(LocalDateTime from, From<?, ?> root, CriteriaBuilder cb) {
+        return from == null ? null : cb.greaterThanOrEqualTo(root.get("taskDateTime"), from);
+    }
+
+    // taskDateTime < to
+    public static Specification<Task> taskDateBefore(LocalDateTime to) {
+        return (root, query, cb) -> taskDateBefore(to, root, cb);
+    }
+
+    public static Predicate taskDateBefore(LocalDateTime to, From<?, ?> root, CriteriaBuilder cb) {
+        return to == null ? null : cb.lessThan(root.get("taskDateTime"), to);
+    }
+
+    // Fetch-joins the users read by TaskService.toResponse, so N rows cost one SELECT instead of 1 + 3N.
+    // Skipped for count queries, where a fetch join is not allowed.
+    public static Specification<Task> fetchUsers() {
+        return (root, query, cb) -> {
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                root.fetch("assignedUser", JoinType.INNER);
+                root.fetch("createdBy", JoinType.INNER);
+                root.fetch("decisionBy", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    private static Subquery<Long> idsOwnedBy(Long userId, String owner, Class<?> entity,
+                                             AbstractQuery<?> query, CriteriaBuilder cb) {
+        Subquery<Long> ids = query.subquery(Long.class);
+        Root<?> r = ids.from(entity);
+        return ids.select(r.<Long>get("id")).where(cb.equal(r.get(owner).get("id"), userId));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.taskandbookingmanagement.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Principal for both login styles (form/Basic via UserDetailsService, bearer token via TokenAuthenticationFilter).
+ * Carries the database id so services can resolve the current user without a lookup by username.
+ */
+public class AuthenticatedUser extends User {
+
+    private final Long id;
+
+    public AuthenticatedUser(Long id, String username, String password, boolean enabled,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.id = id;
+    }
+
+    public Long getId() { return id; }
+}
@@ -1,10 +1,16 @@
 package com.example.taskandbookingmanagement.security;
 
-import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.service.UserDirectory;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -14,27 +20,46 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import java.util.List;
 
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
 
     // ===== API Security (Postman) =====
+    // POST /api/auth/login once, then send "Authorization: Bearer <token>".
+    // The token is checked by signature only (no DB lookup, no BCrypt per request).
+    // HTTP Basic stays available as an opt-in fallback: app.security.basic-auth.enabled=true
+    // Actuator sits in this chain too: health is public, metrics/prometheus need an ADMIN token
     @Bean
     @Order(1)
-    SecurityFilterChain apiSecurity(HttpSecurity http) throws Exception {
+    SecurityFilterChain apiSecurity(HttpSecurity http,
+                                    TokenService tokenService,
+                                    @Value("${app.security.basic-auth.enabled:false}") boolean basicAuthEnabled) throws Exception {
         http
-                .securityMatcher("/api/**")
+                .securityMatcher("/api/**", "/actuator/**")
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // Re-dispatch that finishes an async response (SSE stream): the request was authorized
+                        // on the way in, and bearer tokens are not re-read on this dispatch
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/health").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
-                .httpBasic(Customizer.withDefaults())
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class)
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
                 );
 
+        if (basicAuthEnabled) {
+            http.httpBasic(Customizer.withDefaults());
+        }
+
         return http.build();
     }
 
@@ -93,18 +118,25 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    // Used by the token login endpoint (and by HTTP Basic when enabled)
+    @Bean
+    AuthenticationManager authenticationManager(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(provider);
+    }
+
+    // Served from the UserDirectory cache; the principal carries the user id
     @Bean
-    UserDetailsService userDetailsService(UserRepository userRepository) {
-        return username -> userRepository.findByUsername(username)
-                .map(user -> {
-                    var authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
-                    return org.springframework.security.core.userdetails.User
-                            .withUsername(user.getUsername())
-                            .password(user.getPasswordHash())
-                            .authorities(authority)
-                            .disabled(!user.isEnabled())
-                            .build();
-                })
+    UserDetailsService userDetailsService(UserDirectory userDirectory) {
+        return username -> userDirectory.findByUsername(username)
+                .map(user -> new AuthenticatedUser(
+                        user.getId(),
+                        user.getUsername(),
+                        user.getPasswordHash(),
+                        user.isEnabled(),
+                        List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+                ))
                 .orElseThrow(() ->
                         new org.springframework.security.core.userdetails.UsernameNotFoundException(
                                 "User not found: " + username
@@ -0,0 +1,51 @@
+package com.example.taskandbookingmanagement.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates "Authorization: Bearer <token>" requests from the signed token alone.
+ * Not a bean on purpose: it is only added to the /api/** chain, not to every servlet request.
+ * Invalid tokens are ignored here; the chain's entry point answers 401 for protected URLs.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public TokenAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.regionMatches(true, 0, PREFIX, 0, PREFIX.length())) {
+            tokenService.verify(header.substring(PREFIX.length()).trim()).ifPresent(claims -> {
+                var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + claims.getRole()));
+                var principal = new AuthenticatedUser(claims.getUserId(), claims.getUsername(), "", true, authorities);
+                var auth = UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(auth);
+                SecurityContextHolder.setContext(context);
+            });
+        }
+
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.taskandbookingmanagement.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues and verifies short-lived HMAC-SHA256 signed bearer tokens for /api/**.
+ *
+ * Token = base64url(userId|username|role|expiryEpochSeconds) + "." + base64url(hmac(payload)).
+ * Verifying is a single HMAC over a few bytes: no database lookup and no BCrypt.
+ *
+ * If app.security.token.secret is not set a random key is generated at startup,
+ * so tokens do not survive a restart (fine for the in-memory H2 setup).
+ */
+@Service
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final byte[] key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public TokenService(@Value("${app.security.token.secret:}") String secret,
+                        @Value("${app.security.token.ttl:15m}") Duration ttl) {
+        this(secret.isBlank() ? randomKey() : Base64.getDecoder().decode(secret), ttl, Clock.systemUTC());
+    }
+
+    TokenService(byte[] key, Duration ttl, Clock clock) {
+        if (key.length < 32) {
+            throw new IllegalArgumentException("app.security.token.secret must be at least 256 bits");
+        }
+        this.key = key.clone();
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public IssuedToken issue(Long userId, String username, String role) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        String payload = userId + "|" + username + "|" + role + "|" + expiresAt.getEpochSecond();
+
+        Base64.Encoder b64 = Base64.getUrlEncoder().withoutPadding();
+        String token = b64.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + b64.encodeToString(sign(payload));
+        return new IssuedToken(token, expiresAt);
+    }
+
+    // Empty for malformed, tampered or expired tokens
+    public Optional<TokenClaims> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+
+        String payload;
+        byte[] signature;
+        try {
+            Base64.Decoder b64 = Base64.getUrlDecoder();
+            payload = new String(b64.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            signature = b64.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        // constant-time compare
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            return Optional.empty();
+        }
+
+        // username may contain '|', id, role and expiry never do
+        int first = payload.indexOf('|');
+        int last = payload.lastIndexOf('|');
+        int middle = payload.lastIndexOf('|', last - 1);
+        if (first <= 0 || middle <= first) {
+            return Optional.empty();
+        }
+
+        long userId;
+        long expiry;
+        try {
+            userId = Long.parseLong(payload.substring(0, first));
+            expiry = Long.parseLong(payload.substring(last + 1));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (clock.instant().getEpochSecond() >= expiry) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new TokenClaims(
+                userId,
+                payload.substring(first + 1, middle),
+                payload.substring(middle + 1, last),
+                Instant.ofEpochSecond(expiry)
+        ));
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            // Mac is not thread-safe; a fresh instance is cheap compared to sharing one under a lock
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC not available", e);
+        }
+    }
+
+    private static byte[] randomKey() {
+        byte[] k = new byte[32];
+        new SecureRandom().nextBytes(k);
+        return k;
+    }
+
+    public static final class IssuedToken {
+        private final String token;
+        private final Instant expiresAt;
+
+        IssuedToken(String token, Instant expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getToken() { return token; }
+        public Instant getExpiresAt() { return expiresAt; }
+    }
+
+    public static final class TokenClaims {
+        private final Long userId;
+        private final String username;
+        private final String role;
+        private final Instant expiresAt;
+
+        TokenClaims(Long userId, String username, String role, Instant expiresAt) {
+            this.userId = userId;
+            this.username = username;
+            this.role = role;
+            this.expiresAt = expiresAt;
+        }
+
+        public Long getUserId() { return userId; }
+        public String getUsername() { return username; }
+        public String getRole() { return role; }
+        public Instant getExpiresAt() { return expiresAt; }
+    }
+}
@@ -0,0 +1,372 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * The bookings of every assigned user, one interval tree per user, so createTask can refuse a double
+ * booking with an O(log n) lookup instead of reading that user's tasks.
+ *
+ * A PENDING or APPROVED task books [taskDateTime, taskDateTime + durationMinutes); without a duration it
+ * books the instant taskDateTime (one microsecond, the column precision), so two tasks at the same time clash,
+ * as does a task starting inside a longer booking. Rejected and archived tasks give their slot back.
+ *
+ * A user's tree is read from the database (one indexed query) the first time that user is booked, then kept
+ * current by TaskService, TaskImportService and TaskArchiveService. A createTask reservation holds the slot
+ * until its transaction ends and is dropped on rollback. At most app.tasks.booking.max-users trees are kept,
+ * least recently used dropped first and re-read when needed; rows changed behind the services' back
+ * (another instance, SQL) are only seen on such a re-read.
+ */
+@Service
+public class BookingIndex {
+
+    static final List<TaskStatus> BOOKED = List.of(TaskStatus.PENDING, TaskStatus.APPROVED);
+
+    private final TaskRepository taskRepository;
+    private final int maxUsers;
+
+    // LRU by user id; guarded by itself, as is every Bookings.inUse
+    private final Map<Long, Bookings> byUser;
+
+    @Autowired
+    public BookingIndex(TaskRepository taskRepository,
+                        @Value("${app.tasks.booking.max-users:10000}") int maxUsers) {
+        this.taskRepository = taskRepository;
+        this.maxUsers = Math.max(1, maxUsers);
+        this.byUser = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Bookings> eldest) {
+                // A tree in use (or holding an uncommitted reservation) stays until the next put
+                return size() > BookingIndex.this.maxUsers && eldest.getValue().inUse == 0;
+            }
+        };
+    }
+
+    // Books the saved task for its assignee, or throws TaskConflictException naming the task it clashes with.
+    // Call it inside the transaction that inserts the task.
+    public void book(Task task) {
+        Long userId = task.getAssignedUser().getId();
+        Long taskId = task.getId();
+        long start = start(task.getTaskDateTime());
+        long end = end(start, task.getDurationMinutes());
+
+        Bookings b = acquire(userId);
+        try {
+            b.lock.lock();
+            try {
+                load(userId, b);
+                Long clash = b.tree.findOverlap(start, end);
+                if (clash != null) {
+                    throw new TaskConflictException("Assigned user is already booked at that time (task " + clash + ")");
+                }
+                b.add(taskId, start, end);
+            } finally {
+                b.lock.unlock();
+            }
+        } catch (RuntimeException e) {
+            release(b);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        b.lock.lock();
+                        try {
+                            b.remove(taskId);
+                        } finally {
+                            b.lock.unlock();
+                        }
+                    }
+                    release(b);
+                }
+            });
+        } else {
+            release(b);
+        }
+    }
+
+    // Task inserted without a check (bulk import): booked once the transaction commits
+    public void added(Task task) {
+        Long userId = task.getAssignedUser().getId();
+        Long taskId = task.getId();
+        long start = start(task.getTaskDateTime());
+        long end = end(start, task.getDurationMinutes());
+        afterCommit(userId, b -> b.add(taskId, start, end));
+    }
+
+    // Task rejected or archived: its slot is free once the transaction commits
+    public void released(Long userId, Long taskId) {
+        afterCommit(userId, b -> b.remove(taskId));
+    }
+
+    // Number of users whose bookings are held in memory
+    public int loadedUsers() {
+        synchronized (byUser) {
+            return byUser.size();
+        }
+    }
+
+    static long start(LocalDateTime at) {
+        return at.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + at.getNano() / 1_000;
+    }
+
+    static long end(long start, Integer durationMinutes) {
+        return (durationMinutes == null) ? start + 1 : start + durationMinutes * 60_000_000L;
+    }
+
+    private Bookings acquire(Long userId) {
+        synchronized (byUser) {
+            Bookings b = byUser.computeIfAbsent(userId, id -> new Bookings());
+            b.inUse++;
+            return b;
+        }
+    }
+
+    private void release(Bookings b) {
+        synchronized (byUser) {
+            b.inUse--;
+        }
+    }
+
+    // Caller holds b.lock
+    private void load(Long userId, Bookings b) {
+        if (b.loaded) return;
+        for (TaskRepository.BookingRow r : taskRepository.findBookings(userId, BOOKED)) {
+            long start = start(r.getTaskDateTime());
+            b.add(r.getId(), start, end(start, r.getDurationMinutes()));
+        }
+        b.loaded = true;
+    }
+
+    private void afterCommit(Long userId, Consumer<Bookings> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, change);
+                }
+            });
+        } else {
+            apply(userId, change);
+        }
+    }
+
+    // Only trees already in memory change: one read later sees the committed rows anyway
+    private void apply(Long userId, Consumer<Bookings> change) {
+        Bookings b;
+        synchronized (byUser) {
+            b = byUser.get(userId);
+            if (b == null) return;
+            b.inUse++;
+        }
+        b.lock.lock();
+        try {
+            if (b.loaded) {
+                change.accept(b);
+            }
+        } finally {
+            b.lock.unlock();
+            release(b);
+        }
+    }
+
+    // One user's bookings; guarded by "lock" (inUse by BookingIndex.byUser). A ReentrantLock, not a monitor:
+    // the first check reads the user's rows under it, and a virtual thread blocked in JDBC inside
+    // "synchronized" would pin its carrier thread.
+    private static final class Bookings {
+        final ReentrantLock lock = new ReentrantLock();
+        final IntervalTree tree = new IntervalTree();
+        final Map<Long, Long> startById = new HashMap<>();
+        boolean loaded;
+        int inUse;
+
+        // Idempotent: a task seen by load() may be added again by the commit that inserted it
+        void add(Long taskId, long start, long end) {
+            if (startById.putIfAbsent(taskId, start) == null) {
+                tree.insert(taskId, start, end);
+            }
+        }
+
+        void remove(Long taskId) {
+            Long start = startById.remove(taskId);
+            if (start != null) {
+                tree.remove(taskId, start);
+            }
+        }
+    }
+
+    /**
+     * Half-open intervals [start, end) in an AVL tree ordered by (start, id), each node also holding the
+     * largest end in its subtree. An overlap search follows one root-to-leaf path, so every operation is O(log n).
+     * Not thread-safe on its own.
+     */
+    static final class IntervalTree {
+
+        private Node root;
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        // Id of an interval overlapping [start, end), or null
+        Long findOverlap(long start, long end) {
+            Node n = root;
+            while (n != null) {
+                if (n.start < end && start < n.end) {
+                    return n.id;
+                }
+                // If the left subtree reaches past start but holds no overlap, its intervals (and so all
+                // intervals to the right) begin at or after end
+                n = (n.left != null && n.left.maxEnd > start) ? n.left : n.right;
+            }
+            return null;
+        }
+
+        void insert(long id, long start, long end) {
+            root = insert(root, id, start, end);
+            size++;
+        }
+
+        void remove(long id, long start) {
+            int before = size;
+            root = remove(root, id, start);
+            if (size == before) {
+                throw new IllegalStateException("Interval " + id + " not in tree");
+            }
+        }
+
+        private Node insert(Node n, long id, long start, long end) {
+            if (n == null) {
+                return new Node(id, start, end);
+            }
+            if (compare(start, id, n) < 0) {
+                n.left = insert(n.left, id, start, end);
+            } else {
+                n.right = insert(n.right, id, start, end);
+            }
+            return balance(n);
+        }
+
+        private Node remove(Node n, long id, long start) {
+            if (n == null) {
+                return null;
+            }
+            int c = compare(start, id, n);
+            if (c < 0) {
+                n.left = remove(n.left, id, start);
+            } else if (c > 0) {
+                n.right = remove(n.right, id, start);
+            } else {
+                size--;
+                if (n.left == null) return n.right;
+                if (n.right == null) return n.left;
+
+                Node successor = n.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                successor.right = removeMin(n.right);
+                successor.left = n.left;
+                n = successor;
+            }
+            return balance(n);
+        }
+
+        private Node removeMin(Node n) {
+            if (n.left == null) {
+                return n.right;
+            }
+            n.left = removeMin(n.left);
+            return balance(n);
+        }
+
+        private static int compare(long start, long id, Node n) {
+            int c = Long.compare(start, n.start);
+            return (c != 0) ? c : Long.compare(id, n.id);
+        }
+
+        private static Node balance(Node n) {
+            update(n);
+            int skew = height(n.left) - height(n.right);
+            if (skew > 1) {
+                if (height(n.left.left) < height(n.left.right)) {
+                    n.left = rotateLeft(n.left);
+                }
+                return rotateRight(n);
+            }
+            if (skew < -1) {
+                if (height(n.right.right) < height(n.right.left)) {
+                    n.right = rotateRight(n.right);
+                }
+                return rotateLeft(n);
+            }
+            return n;
+        }
+
+        private static Node rotateRight(Node n) {
+            Node l = n.left;
+            n.left = l.right;
+            l.right = n;
+            update(n);
+            update(l);
+            return l;
+        }
+
+        private static Node rotateLeft(Node n) {
+            Node r = n.right;
+            n.right = r.left;
+            r.left = n;
+            update(n);
+            update(r);
+            return r;
+        }
+
+        private static void update(Node n) {
+            n.height = 1 + Math.max(height(n.left), height(n.right));
+            long maxEnd = n.end;
+            if (n.left != null) maxEnd = Math.max(maxEnd, n.left.maxEnd);
+            if (n.right != null) maxEnd = Math.max(maxEnd, n.right.maxEnd);
+            n.maxEnd = maxEnd;
+        }
+
+        private static int height(Node n) {
+            return (n == null) ? 0 : n.height;
+        }
+
+        private static final class Node {
+            final long id;
+            final long start;
+            final long end;
+            long maxEnd;
+            int height = 1;
+            Node left;
+            Node right;
+
+            Node(long id, long start, long end) {
+                this.id = id;
+                this.start = start;
+                this.end = end;
+                this.maxEnd = end;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.taskandbookingmanagement.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap change counters behind the ETags of GET /api/tasks and GET /api/users.
+ *
+ * Writers call tasksChanged()/usersChanged(); the counter moves immediately and again after commit.
+ * A reader that takes the version before querying therefore never labels old rows with a version
+ * that already stands for the new ones (the worst case is new rows under the old tag, which only
+ * costs one extra full response). The epoch keeps tags from a previous run from matching.
+ *
+ * Only changes made through the application are seen; rows edited directly in the database keep
+ * their tag until the next change here.
+ */
+@Component
+public class DataVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong tasks = new AtomicLong();
+    private final AtomicLong users = new AtomicLong();
+
+    public void tasksChanged() {
+        bump(tasks);
+    }
+
+    public void usersChanged() {
+        bump(users);
+    }
+
+    public long getTasks() {
+        return tasks.get();
+    }
+
+    public long getUsers() {
+        return users.get();
+    }
+
+    // Task rows embed usernames, so a user change also changes the task tags
+    public String tasksTag(Object... params) {
+        return tag("t" + tasks.get() + "." + users.get(), params);
+    }
+
+    public String usersTag(Object... params) {
+        return tag("u" + users.get(), params);
+    }
+
+    private String tag(String version, Object... params) {
+        return "\"" + epoch + "-" + version + "-" + Integer.toHexString(Arrays.toString(params).hashCode()) + "\"";
+    }
+
+    private static void bump(AtomicLong counter) {
+        counter.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.incrementAndGet();
+                }
+            });
+        }
+    }
+}
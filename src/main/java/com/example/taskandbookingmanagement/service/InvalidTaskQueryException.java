@@ -0,0 +1,16 @@
+package com.example.taskandbookingmanagement.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A task listing was asked for something it cannot serve (a sortBy key off the whitelist, an empty date
+ * window, a cursor it did not issue). Answered with 400, as the caller has to change the request.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidTaskQueryException extends IllegalArgumentException {
+
+    public InvalidTaskQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.Priority;
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of one notification.
+ * Built on the request thread, so workers never touch (possibly detached) JPA entities.
+ */
+public final class Notification {
+
+    private final String recipient;
+    private final String eventType;
+    private final Long taskId;
+    private final String title;
+    private final TaskStatus status;
+    private final Priority priority;
+    private final LocalDateTime taskDateTime;
+    private final String assignedTo;
+    private final String createdBy;
+    private final String message;
+
+    public Notification(String recipient, String eventType, Task task, String message) {
+        this.recipient = recipient;
+        this.eventType = eventType;
+        this.taskId = task.getId();
+        this.title = task.getTitle();
+        this.status = task.getStatus();
+        this.priority = task.getPriority();
+        this.taskDateTime = task.getTaskDateTime();
+        this.assignedTo = task.getAssignedUser() != null ? task.getAssignedUser().getUsername() : "";
+        this.createdBy = task.getCreatedBy() != null ? task.getCreatedBy().getUsername() : "";
+        this.message = message;
+    }
+
+    public String getRecipient() { return recipient; }
+    public String getEventType() { return eventType; }
+    public Long getTaskId() { return taskId; }
+    public String getMessage() { return message; }
+
+    public String format() {
+        return """
+            [NOTIFICATION]
+            Recipient: %s
+            Event: %s
+
+            Task:
+            - ID: %d
+            - Title: %s
+            - Status: %s
+            - Priority: %s
+            - Task Date/Time: %s
+            - Assigned To: %s
+            - Created By: %s
+
+            Message: %s
+            """.formatted(
+                recipient,
+                eventType,
+                taskId,
+                title,
+                status,
+                priority,
+                taskDateTime,
+                assignedTo,
+                createdBy,
+                message
+        );
+    }
+}
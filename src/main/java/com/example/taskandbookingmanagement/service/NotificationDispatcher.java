@@ -0,0 +1,255 @@
+package com.example.taskandbookingmanagement.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Delivers notifications off the request thread.
+ *
+ * Notifications go onto a bounded queue once the surrounding transaction commits (immediately when
+ * there is none). A few workers (virtual threads in virtual-thread mode) drain the queue in batches and hand
+ * each batch to the sender in one call. When the queue is full the overflow policy decides:
+ * BLOCK waits for space, DROP discards and counts, CALLER_RUNS sends on the calling thread.
+ * On shutdown the workers finish whatever is still queued.
+ *
+ * workers=0 switches to synchronous delivery on the calling thread.
+ *
+ * As a MeterBinder it publishes notifications.send (timer per batch, by outcome), notifications.batch.size,
+ * notifications.queue.size and notifications.dropped once Boot binds it to the registry.
+ */
+@Component
+public class NotificationDispatcher implements MeterBinder {
+
+    public enum OverflowPolicy { BLOCK, DROP, CALLER_RUNS }
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final long POLL_MILLIS = 200;
+
+    private final Consumer<List<Notification>> sender;
+    private final BlockingQueue<Notification> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration shutdownTimeout;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+
+    // Set by bindTo; unbound in plain unit tests
+    private volatile MeterRegistry registry;
+    private volatile DistributionSummary batchSizes;
+
+    @Autowired
+    public NotificationDispatcher(@Value("${app.notifications.workers:2}") int workerCount,
+                                  @Value("${app.notifications.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${app.notifications.batch-size:100}") int batchSize,
+                                  @Value("${app.notifications.overflow:BLOCK}") OverflowPolicy overflowPolicy,
+                                  @Value("${app.notifications.shutdown-timeout:10s}") Duration shutdownTimeout,
+                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(workerCount, queueCapacity, batchSize, overflowPolicy, shutdownTimeout, NotificationDispatcher::print,
+                threadFactory(virtualThreads));
+    }
+
+    NotificationDispatcher(int workerCount, int queueCapacity, int batchSize, OverflowPolicy overflowPolicy,
+                           Duration shutdownTimeout, Consumer<List<Notification>> sender) {
+        this(workerCount, queueCapacity, batchSize, overflowPolicy, shutdownTimeout, sender, threadFactory(false));
+    }
+
+    private NotificationDispatcher(int workerCount, int queueCapacity, int batchSize, OverflowPolicy overflowPolicy,
+                                   Duration shutdownTimeout, Consumer<List<Notification>> sender, ThreadFactory threads) {
+        this.sender = sender;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.shutdownTimeout = shutdownTimeout;
+
+        if (workerCount > 0) {
+            running = true;
+            for (int i = 0; i < workerCount; i++) {
+                Thread t = threads.newThread(this::drainLoop);
+                workers.add(t);
+                t.start();
+            }
+        }
+    }
+
+    // Delivers on the calling thread, used when no dispatcher bean is around (plain unit tests)
+    public static NotificationDispatcher synchronous() {
+        return new NotificationDispatcher(0, 1, 1, OverflowPolicy.CALLER_RUNS, Duration.ZERO, NotificationDispatcher::print);
+    }
+
+    public void dispatch(Notification notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Never announce something that may still roll back
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(notification);
+                }
+            });
+        } else {
+            enqueue(notification);
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notifications.queue.size", queue, BlockingQueue::size)
+                .description("Notifications waiting for a worker")
+                .register(registry);
+        FunctionCounter.builder("notifications.dropped", dropped, AtomicLong::get)
+                .description("Notifications discarded by the DROP overflow policy")
+                .register(registry);
+        this.batchSizes = DistributionSummary.builder("notifications.batch.size")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        this.registry = registry;
+    }
+
+    // Stops accepting queued work and lets the workers flush what is pending
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (Thread t : workers) {
+            long left = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try {
+                if (left > 0) t.join(left);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // Workers timed out or never existed: whatever is left goes out on this thread
+        List<Notification> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            sendSafely(rest);
+        }
+    }
+
+    private void enqueue(Notification n) {
+        if (!running) {
+            sendSafely(List.of(n));
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    queue.put(n);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    sendSafely(List.of(n));
+                }
+            }
+            case DROP -> {
+                if (!queue.offer(n)) {
+                    dropped.incrementAndGet();
+                }
+            }
+            case CALLER_RUNS -> {
+                if (!queue.offer(n)) {
+                    sendSafely(List.of(n));
+                }
+            }
+        }
+    }
+
+    private void drainLoop() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Notification first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (first == null) {
+                if (!running) return; // shut down and nothing left
+                continue;
+            }
+
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            sendSafely(batch);
+            batch.clear();
+        }
+    }
+
+    private void sendSafely(List<Notification> batch) {
+        MeterRegistry meters = registry;
+        Timer.Sample sample = (meters != null) ? Timer.start(meters) : null;
+        String outcome = "success";
+        try {
+            sender.accept(batch);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            // A failing sender must not kill the worker or fail the request that triggered it
+            log.error("Notification delivery failed for {} event(s)", batch.size(), e);
+        } finally {
+            if (sample != null) {
+                sample.stop(Timer.builder("notifications.send")
+                        .tag("outcome", outcome)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meters));
+                batchSizes.record(batch.size());
+            }
+        }
+    }
+
+    // One println per batch, so stdout's lock is taken once instead of once per notification
+    private static void print(List<Notification> batch) {
+        StringBuilder sb = new StringBuilder();
+        for (Notification n : batch) {
+            sb.append(n.format()).append(System.lineSeparator());
+        }
+        System.out.print(sb);
+    }
+
+    // Virtual threads need Java 21+; on 17 the switch is ignored, like Boot ignores spring.threads.virtual.enabled
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            return new VirtualThreadTaskExecutor("notification-").getVirtualThreadFactory();
+        }
+        CustomizableThreadFactory factory = new CustomizableThreadFactory("notification-");
+        factory.setDaemon(true);
+        return factory;
+    }
+}
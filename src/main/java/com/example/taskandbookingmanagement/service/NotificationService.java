@@ -2,11 +2,24 @@ package com.example.taskandbookingmanagement.service;
 
 import com.example.taskandbookingmanagement.model.Task;
 import com.example.taskandbookingmanagement.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
 public class NotificationService {
 
+    private final NotificationDispatcher dispatcher;
+
+    // Delivers synchronously on the calling thread
+    public NotificationService() {
+        this(NotificationDispatcher.synchronous());
+    }
+
+    @Autowired
+    public NotificationService(NotificationDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
     public void notifyTaskCreated(Task task) {
         // Assigned user always gets notification
         notifyUser(
@@ -53,32 +66,7 @@ public class NotificationService {
     }
 
     private void notifyUser(User recipient, String eventType, Task task, String message) {
-        System.out.println("""
-            [NOTIFICATION]
-            Recipient: %s
-            Event: %s
-
-            Task:
-            - ID: %d
-            - Title: %s
-            - Status: %s
-            - Priority: %s
-            - Task Date/Time: %s
-            - Assigned To: %s
-            - Created By: %s
-
-            Message: %s
-            """.formatted(
-                recipient.getUsername(),
-                eventType,
-                task.getId(),
-                task.getTitle(),
-                task.getStatus(),
-                task.getPriority(),
-                task.getTaskDateTime(),
-                task.getAssignedUser() != null ? task.getAssignedUser().getUsername() : "",
-                task.getCreatedBy() != null ? task.getCreatedBy().getUsername() : "",
-                message
-        ));
+        // Snapshot now; formatting and console I/O happen on the dispatcher's workers
+        dispatcher.dispatch(new Notification(recipient.getUsername(), eventType, task, message));
     }
 }
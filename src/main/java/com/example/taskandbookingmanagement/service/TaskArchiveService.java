@@ -0,0 +1,120 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskEvent;
+import com.example.taskandbookingmanagement.metrics.TaskMetrics;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Moves tasks decided more than app.tasks.archive.after ago from "tasks" to "tasks_archive", so listing,
+ * the dashboard and the approval views only ever work on pending and recently decided rows.
+ *
+ * Runs every app.tasks.archive.interval. Each batch of app.tasks.archive.batch-size tasks is one
+ * transaction: INSERT ... SELECT into the archive, then DELETE, so a failure leaves every task in exactly
+ * one of the two tables and transactions stay small whatever the backlog. Archived tasks are only read
+ * when a caller asks for them (?archived=true on list and export); they are not searchable.
+ */
+@Service
+public class TaskArchiveService {
+
+    private static final List<TaskStatus> DECIDED = List.of(TaskStatus.APPROVED, TaskStatus.REJECTED);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskStatsService taskStatsService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final BookingIndex bookingIndex;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final DataVersion dataVersion;
+    private final TaskMetrics taskMetrics;
+    private final boolean enabled;
+    private final Duration after;
+    private final int batchSize;
+
+    public TaskArchiveService(TaskRepository taskRepository,
+                              TransactionTemplate transactionTemplate,
+                              TaskStatsService taskStatsService,
+                              TaskSearchIndex taskSearchIndex,
+                              BookingIndex bookingIndex,
+                              TaskEventBroadcaster taskEventBroadcaster,
+                              DataVersion dataVersion,
+                              TaskMetrics taskMetrics,
+                              @Value("${app.tasks.archive.enabled:true}") boolean enabled,
+                              @Value("${app.tasks.archive.after:90d}") Duration after,
+                              @Value("${app.tasks.archive.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.taskStatsService = taskStatsService;
+        this.taskSearchIndex = taskSearchIndex;
+        this.bookingIndex = bookingIndex;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.dataVersion = dataVersion;
+        this.taskMetrics = taskMetrics;
+        this.enabled = enabled;
+        this.after = after;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(initialDelayString = "${app.tasks.archive.initial-delay:5m}",
+            fixedDelayString = "${app.tasks.archive.interval:1h}")
+    public void scheduledRun() {
+        if (enabled) {
+            archiveDecidedBefore(LocalDateTime.now().minus(after));
+        }
+    }
+
+    // Archives every task decided before the cutoff; returns how many were moved
+    public int archiveDecidedBefore(LocalDateTime cutoff) {
+        int moved = taskMetrics.time(TaskMetrics.ARCHIVE, () -> run(cutoff));
+        taskMetrics.resultSize(TaskMetrics.ARCHIVE, moved);
+        return moved;
+    }
+
+    private int run(LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            List<TaskRepository.ArchiveRow> batch = transactionTemplate.execute(tx -> moveBatch(cutoff));
+            for (TaskRepository.ArchiveRow r : batch) {
+                taskStatsService.onTaskArchived(r.getStatus(), r.getPriority());
+            }
+            total += batch.size();
+            if (batch.size() < batchSize) break;
+        }
+        if (total > 0) {
+            taskEventBroadcaster.publish(TaskEvent.refresh()); // one event per run
+        }
+        return total;
+    }
+
+    private List<TaskRepository.ArchiveRow> moveBatch(LocalDateTime cutoff) {
+        List<TaskRepository.ArchiveRow> batch = taskRepository.findArchivable(DECIDED, cutoff, Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return batch;
+        }
+
+        List<Long> ids = batch.stream().map(TaskRepository.ArchiveRow::getId).toList();
+        LocalDateTime at = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int copied = taskRepository.copyToArchive(ids, at);
+        int deleted = taskRepository.deleteByIds(ids);
+        if (copied != ids.size() || deleted != ids.size()) {
+            // Rolls the batch back: a task must never end up in both tables, or in neither
+            throw new IllegalStateException("Archive batch changed while being moved: " + ids.size()
+                    + " selected, " + copied + " copied, " + deleted + " deleted");
+        }
+
+        ids.forEach(taskSearchIndex::removed);
+        batch.forEach(r -> bookingIndex.released(r.getAssignedUserId(), r.getId()));
+        dataVersion.tasksChanged();
+        return batch;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.taskandbookingmanagement.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A task is no longer in the state the caller expected (already decided, or changed since the
+ * version the caller read). Answered with 409 straight away; the service never retries.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class TaskConflictException extends IllegalStateException {
+
+    public TaskConflictException(String message) {
+        super(message);
+    }
+}
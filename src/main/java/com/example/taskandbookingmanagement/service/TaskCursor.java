@@ -0,0 +1,89 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.Priority;
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursor for task listing.
+ * Encodes the sort key, direction, last seen sort value and last seen id, so the next page
+ * can continue with "WHERE (key, id) > (value, lastId)" instead of an OFFSET scan.
+ */
+final class TaskCursor {
+
+    // The sortBy whitelist for listing, paging and export: non-null columns, each with an index that
+    // returns rows in (key, id) order, alone and after status (db/migration V1). No updatedAt: every
+    // decision rewrites it, so an index on it would be maintained on the hottest write path.
+    private static final Map<String, Function<Task, Object>> GETTERS = Map.of(
+            "taskDateTime", Task::getTaskDateTime,
+            "createdAt", Task::getCreatedAt,
+            "priority", Task::getPriority,
+            "status", Task::getStatus,
+            "id", Task::getId
+    );
+
+    private static final Map<String, Function<String, Object>> PARSERS = Map.of(
+            "taskDateTime", LocalDateTime::parse,
+            "createdAt", LocalDateTime::parse,
+            "priority", Priority::valueOf,
+            "status", TaskStatus::valueOf,
+            "id", Long::valueOf
+    );
+
+    private TaskCursor() {
+    }
+
+    static boolean isSupported(String property) {
+        return GETTERS.containsKey(property);
+    }
+
+    // Cursor pointing just after the given task
+    static String encode(String property, Sort.Direction dir, Task last) {
+        return encode(property, dir, last.getId(), GETTERS.get(property).apply(last));
+    }
+
+    // Same, from the last row's id and sort value (sparse fieldset rows are not entities)
+    static String encode(String property, Sort.Direction dir, Long lastId, Object value) {
+        String raw = property + "|" + dir.name() + "|" + lastId + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ScrollPosition decode(String cursor, String property, Sort.Direction dir) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTaskQueryException("Invalid cursor");
+        }
+
+        if (parts.length != 4) {
+            throw new InvalidTaskQueryException("Invalid cursor");
+        }
+        if (!parts[0].equals(property) || !parts[1].equals(dir.name())) {
+            throw new InvalidTaskQueryException("Cursor does not match sortBy/sortDir");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            keys.put(property, PARSERS.get(property).apply(parts[3]));
+            keys.put("id", Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidTaskQueryException("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskEvent;
+import com.example.taskandbookingmanagement.model.Role;
+import com.example.taskandbookingmanagement.model.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live task deltas for GET /api/tasks/stream (Server-Sent Events).
+ *
+ * Each subscriber is an async SseEmitter, so an idle connection holds no thread. Events are published
+ * after commit: the publishing thread serializes the event once and offers it to the bounded buffer
+ * (app.tasks.stream.buffer-size) of every subscriber that wants it, without touching any socket.
+ * A small sender pool (virtual threads in virtual-thread mode) drains buffers that have something in them.
+ * A subscriber whose buffer is full is reading too slowly: it is dropped and its stream closed, and
+ * EventSource clients reconnect by themselves.
+ *
+ * USER subscribers get events for tasks assigned to them, MANAGER/ADMIN get everything; "refresh"
+ * (bulk changes) goes to all. A comment line every app.tasks.stream.heartbeat keeps proxies from
+ * closing idle streams and finds dead connections.
+ *
+ * As a MeterBinder it publishes tasks.stream.subscribers and tasks.stream.dropped.
+ */
+@Component
+public class TaskEventBroadcaster implements MeterBinder {
+
+    private static final Frame READY = new Frame(null, 0, null, "ready");
+    private static final Frame HEARTBEAT = new Frame(null, 0, null, "heartbeat");
+
+    private final UserDirectory userDirectory;
+    private final JsonMapper jsonMapper;
+    private final Executor senders;
+    private final ScheduledExecutorService heartbeats;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Autowired
+    public TaskEventBroadcaster(UserDirectory userDirectory,
+                                JsonMapper jsonMapper,
+                                @Value("${app.tasks.stream.buffer-size:256}") int bufferSize,
+                                @Value("${app.tasks.stream.heartbeat:15s}") Duration heartbeat,
+                                @Value("${app.tasks.stream.timeout:30m}") Duration timeout,
+                                @Value("${app.tasks.stream.senders:16}") int senders,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(userDirectory, jsonMapper, bufferSize, heartbeat, timeout, senderExecutor(senders, virtualThreads));
+    }
+
+    TaskEventBroadcaster(UserDirectory userDirectory, JsonMapper jsonMapper, int bufferSize,
+                         Duration heartbeat, Duration timeout, Executor senders) {
+        this.userDirectory = userDirectory;
+        this.jsonMapper = jsonMapper;
+        this.senders = senders;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.timeoutMillis = timeout.toMillis();
+
+        if (heartbeat.isZero()) {
+            heartbeats = null;
+        } else {
+            CustomizableThreadFactory factory = new CustomizableThreadFactory("task-stream-heartbeat-");
+            factory.setDaemon(true);
+            heartbeats = Executors.newSingleThreadScheduledExecutor(factory);
+            long millis = heartbeat.toMillis();
+            heartbeats.scheduleAtFixedRate(this::heartbeat, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Opens a stream for the logged-in user
+    public SseEmitter subscribe() {
+        User user = userDirectory.currentUser();
+        boolean seesAll = user.getRole() == Role.MANAGER || user.getRole() == Role.ADMIN;
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber s = new Subscriber(emitter, user.getId(), seesAll, bufferSize);
+        emitter.onTimeout(emitter::complete); // normal end of a stream: the client reconnects
+        emitter.onCompletion(() -> subscribers.remove(s));
+        emitter.onError(e -> subscribers.remove(s));
+        subscribers.add(s);
+
+        offer(s, READY); // lets the client know the stream is up before the first event
+        return emitter;
+    }
+
+    public void publish(TaskEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Never announce something that may still roll back
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(event);
+                }
+            });
+        } else {
+            broadcast(event);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.stream.subscribers", subscribers, Set::size)
+                .description("Open /api/tasks/stream connections")
+                .register(registry);
+        FunctionCounter.builder("tasks.stream.dropped", dropped, AtomicLong::get)
+                .description("Streams closed because the client read too slowly")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+        for (Subscriber s : subscribers) {
+            s.emitter.complete();
+        }
+        subscribers.clear();
+        if (senders instanceof ExecutorService pool) {
+            pool.shutdown();
+        }
+    }
+
+    private void broadcast(TaskEvent event) {
+        if (subscribers.isEmpty()) return;
+
+        // Serialized once, whatever the number of subscribers
+        Frame frame = new Frame(event.getType(), sequence.incrementAndGet(), jsonMapper.writeValueAsString(event), null);
+        for (Subscriber s : subscribers) {
+            if (s.wants(event)) {
+                offer(s, frame);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber s : subscribers) {
+            offer(s, HEARTBEAT);
+        }
+    }
+
+    private void offer(Subscriber s, Frame frame) {
+        if (!s.buffer.offer(frame)) {
+            drop(s);
+            return;
+        }
+        scheduleDrain(s);
+    }
+
+    // Called from the publisher: closing the emitter may wait for a send in progress, so the sender does it
+    private void drop(Subscriber s) {
+        if (subscribers.remove(s)) {
+            dropped.incrementAndGet();
+            s.closing = true;
+            s.buffer.clear();
+            scheduleDrain(s);
+        }
+    }
+
+    private void scheduleDrain(Subscriber s) {
+        if (s.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(s));
+            } catch (RejectedExecutionException e) {
+                s.draining.set(false); // shutting down
+            }
+        }
+    }
+
+    private void drain(Subscriber s) {
+        try {
+            while (true) {
+                if (s.closing) {
+                    s.emitter.complete();
+                    return;
+                }
+                Frame frame = s.buffer.poll();
+                if (frame == null) break;
+                s.emitter.send(frame.toEvent());
+            }
+        } catch (Exception e) {
+            // Client went away: the container completes the async request, onError/onCompletion clean up
+            subscribers.remove(s);
+            s.closing = true;
+            s.buffer.clear();
+            return;
+        } finally {
+            s.draining.set(false);
+        }
+
+        // A frame offered between the last poll and the reset above must not wait for the next one
+        if (!s.buffer.isEmpty() || s.closing) {
+            scheduleDrain(s);
+        }
+    }
+
+    // Threads only exist while there is something to write; idle streams need none
+    private static Executor senderExecutor(int senders, boolean virtualThreads) {
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            return new VirtualThreadTaskExecutor("task-stream-");
+        }
+        CustomizableThreadFactory factory = new CustomizableThreadFactory("task-stream-");
+        factory.setDaemon(true);
+        int size = Math.max(1, senders);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), factory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private record Frame(String name, long id, String data, String comment) {
+        SseEmitter.SseEventBuilder toEvent() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(data);
+        }
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final Long userId;
+        final boolean seesAll;
+        final BlockingQueue<Frame> buffer;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closing;
+
+        Subscriber(SseEmitter emitter, Long userId, boolean seesAll, int bufferSize) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.seesAll = seesAll;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean wants(TaskEvent event) {
+            return seesAll
+                    || TaskEvent.REFRESH.equals(event.getType())
+                    || Objects.equals(event.getAssignedUserId(), userId);
+        }
+    }
+}
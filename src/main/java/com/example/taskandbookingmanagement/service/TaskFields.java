@@ -0,0 +1,102 @@
+package com.example.taskandbookingmanagement.service;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets for task listing/export (?fields=id,title,status).
+ * Field names are the TaskResponse properties; each one maps to the column it is selected from,
+ * so only the requested columns are read and the users table is joined only for user names.
+ */
+public final class TaskFields {
+
+    // Where a field comes from: a Task attribute, or an attribute of one of its users.
+    // User ids are the foreign key column on tasks; only user names need the join.
+    private record Column(String association, String attribute, JoinType join) {
+    }
+
+    // TaskResponse order
+    private static final Map<String, Column> COLUMNS = new LinkedHashMap<>();
+
+    static {
+        COLUMNS.put("id", new Column(null, "id", null));
+        COLUMNS.put("version", new Column(null, "version", null));
+        COLUMNS.put("title", new Column(null, "title", null));
+        COLUMNS.put("description", new Column(null, "description", null));
+        COLUMNS.put("status", new Column(null, "status", null));
+        COLUMNS.put("priority", new Column(null, "priority", null));
+        COLUMNS.put("taskDateTime", new Column(null, "taskDateTime", null));
+        COLUMNS.put("durationMinutes", new Column(null, "durationMinutes", null));
+        COLUMNS.put("assignedUserId", new Column("assignedUser", "id", null));
+        COLUMNS.put("assignedUsername", new Column("assignedUser", "username", JoinType.INNER));
+        COLUMNS.put("createdByUserId", new Column("createdBy", "id", null));
+        COLUMNS.put("createdByUsername", new Column("createdBy", "username", JoinType.INNER));
+        COLUMNS.put("createdAt", new Column(null, "createdAt", null));
+        COLUMNS.put("updatedAt", new Column(null, "updatedAt", null));
+        COLUMNS.put("decisionAt", new Column(null, "decisionAt", null));
+        COLUMNS.put("decisionByUsername", new Column("decisionBy", "username", JoinType.LEFT));
+    }
+
+    private TaskFields() {
+    }
+
+    // "title, id,status" -> [id, title, status] (TaskResponse order, duplicates dropped).
+    // null when no fields were asked for, i.e. the full TaskResponse.
+    public static List<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(f -> !f.isEmpty())
+                .collect(Collectors.toSet());
+        for (String f : requested) {
+            if (!COLUMNS.containsKey(f)) {
+                throw new InvalidTaskQueryException("Unknown field: " + f);
+            }
+        }
+        if (requested.isEmpty()) {
+            throw new InvalidTaskQueryException("fields is empty");
+        }
+
+        List<String> result = new ArrayList<>(requested.size());
+        for (String f : COLUMNS.keySet()) {
+            if (requested.contains(f)) {
+                result.add(f);
+            }
+        }
+        return result;
+    }
+
+    // Every field, i.e. a full TaskResponse
+    public static List<String> all() {
+        return List.copyOf(COLUMNS.keySet());
+    }
+
+    // Path the field is selected from, on a Task or ArchivedTask root (same attribute names);
+    // user joins are created on first use and shared via "joins"
+    static Path<?> path(String field, From<?, ?> root, Map<String, Join<?, ?>> joins) {
+        Column c = COLUMNS.get(field);
+        if (c == null) {
+            throw new InvalidTaskQueryException("Unknown field: " + field);
+        }
+        if (c.association() == null) {
+            return root.get(c.attribute());
+        }
+        if (c.join() == null) {
+            return root.get(c.association()).get(c.attribute());
+        }
+        return joins.computeIfAbsent(c.association(), a -> root.join(a, c.join())).get(c.attribute());
+    }
+}
@@ -0,0 +1,380 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskEvent;
+import com.example.taskandbookingmanagement.dto.TaskImportResponse;
+import com.example.taskandbookingmanagement.metrics.TaskMetrics;
+import com.example.taskandbookingmanagement.model.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk task creation from a CSV (export columns, header required) or NDJSON stream.
+ *
+ * Rows are parsed one at a time and persisted in batches of app.tasks.import.batch-size, each batch in its own
+ * transaction with JDBC batching on and the persistence context cleared afterwards, so memory depends on the
+ * batch size, never on the upload. Assignees come from one UserDirectory lookup of all users.
+ * Invalid rows are skipped and listed in the report (at most app.tasks.import.max-errors of them).
+ *
+ * CSV columns used: title, description, priority, taskDateTime, assignedUsername (or assignedUserId), and
+ * durationMinutes if present. Everything else in an export file (id, status, decision columns...) is ignored:
+ * imported tasks start PENDING. Rows are not checked against the assignee's other bookings (see BookingIndex);
+ * they are added to it once their batch commits.
+ */
+@Service
+public class TaskImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final int TITLE_MAX = 255;
+    private static final int DESCRIPTION_MAX = 2000;
+
+    private final UserDirectory userDirectory;
+    private final NotificationService notificationService;
+    private final TaskStatsService taskStatsService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final TaskMetrics taskMetrics;
+    private final TaskSearchIndex taskSearchIndex;
+    private final BookingIndex bookingIndex;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final DataVersion dataVersion;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public TaskImportService(UserDirectory userDirectory,
+                             NotificationService notificationService,
+                             TaskStatsService taskStatsService,
+                             EntityManager entityManager,
+                             TransactionTemplate transactionTemplate,
+                             JsonMapper jsonMapper,
+                             TaskMetrics taskMetrics,
+                             TaskSearchIndex taskSearchIndex,
+                             BookingIndex bookingIndex,
+                             TaskEventBroadcaster taskEventBroadcaster,
+                             DataVersion dataVersion,
+                             @Value("${app.tasks.import.batch-size:500}") int batchSize,
+                             @Value("${app.tasks.import.max-errors:1000}") int maxErrors) {
+        this.userDirectory = userDirectory;
+        this.notificationService = notificationService;
+        this.taskStatsService = taskStatsService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.jsonMapper = jsonMapper;
+        this.taskMetrics = taskMetrics;
+        this.taskSearchIndex = taskSearchIndex;
+        this.bookingIndex = bookingIndex;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.dataVersion = dataVersion;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxErrors = Math.max(0, maxErrors);
+    }
+
+    // IO failures of the upload itself surface as UncheckedIOException
+    public TaskImportResponse importTasks(Format format, Reader input) {
+        TaskImportResponse report = taskMetrics.time(TaskMetrics.IMPORT, () -> run(format, input));
+        taskMetrics.resultSize(TaskMetrics.IMPORT, (int) Math.min(Integer.MAX_VALUE, report.getImported()));
+        return report;
+    }
+
+    private TaskImportResponse run(Format format, Reader input) {
+        TaskImportResponse report = new TaskImportResponse();
+        Import run = new Import(report);
+        try {
+            BufferedReader in = new BufferedReader(input);
+            if (format == Format.CSV) {
+                readCsv(in, run);
+            } else {
+                readNdjson(in, run);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        run.flush();
+        if (report.getImported() > 0) {
+            taskEventBroadcaster.publish(TaskEvent.refresh()); // one event for the whole upload
+        }
+        return report;
+    }
+
+    private void readCsv(BufferedReader in, Import run) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(in);
+        List<String> header = csv.next();
+        if (header == null) {
+            return; // empty upload
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        if (!columns.containsKey("title") || !columns.containsKey("taskDateTime") || !columns.containsKey("priority")
+                || !(columns.containsKey("assignedUsername") || columns.containsKey("assignedUserId"))) {
+            throw new IllegalArgumentException(
+                    "CSV header must contain title, taskDateTime, priority and assignedUsername or assignedUserId");
+        }
+
+        while (true) {
+            List<String> record;
+            try {
+                record = csv.next();
+            } catch (IllegalArgumentException e) {
+                run.reject(csv.getRecordLine(), e.getMessage());
+                return; // the rest of the stream cannot be re-synchronised
+            }
+            if (record == null) return;
+            if (record.size() == 1 && record.get(0).isBlank()) continue; // empty line
+
+            long line = csv.getRecordLine();
+            run.accept(line, () -> new Row(
+                    cell(record, columns, "title"),
+                    cell(record, columns, "description"),
+                    cell(record, columns, "priority"),
+                    cell(record, columns, "taskDateTime"),
+                    cell(record, columns, "durationMinutes"),
+                    cell(record, columns, "assignedUsername"),
+                    cell(record, columns, "assignedUserId")
+            ));
+        }
+    }
+
+    private void readNdjson(BufferedReader in, Import run) throws IOException {
+        long line = 0;
+        String text;
+        while ((text = in.readLine()) != null) {
+            line++;
+            if (text.isBlank()) continue;
+
+            String json = text;
+            run.accept(line, () -> {
+                JsonNode node;
+                try {
+                    node = jsonMapper.readTree(json);
+                } catch (JacksonException e) {
+                    throw new IllegalArgumentException("Invalid JSON");
+                }
+                if (!node.isObject()) {
+                    throw new IllegalArgumentException("Expected a JSON object");
+                }
+                return new Row(
+                        text(node, "title"),
+                        text(node, "description"),
+                        text(node, "priority"),
+                        text(node, "taskDateTime"),
+                        text(node, "durationMinutes"),
+                        text(node, "assignedUsername"),
+                        text(node, "assignedUserId")
+                );
+            });
+        }
+    }
+
+    private static String cell(List<String> record, Map<String, Integer> columns, String name) {
+        Integer i = columns.get(name);
+        if (i == null || i >= record.size()) return null;
+        String v = record.get(i);
+        return v.isEmpty() ? null : v;
+    }
+
+    private static String text(JsonNode node, String name) {
+        JsonNode v = node.get(name);
+        return (v == null || v.isNull()) ? null : v.asString();
+    }
+
+    private interface RowParser {
+        Row parse();
+    }
+
+    private static final class Row {
+        final String title;
+        final String description;
+        final String priority;
+        final String taskDateTime;
+        final String durationMinutes;
+        final String assignedUsername;
+        final String assignedUserId;
+
+        Row(String title, String description, String priority, String taskDateTime, String durationMinutes,
+            String assignedUsername, String assignedUserId) {
+            this.title = title;
+            this.description = description;
+            this.priority = priority;
+            this.taskDateTime = taskDateTime;
+            this.durationMinutes = durationMinutes;
+            this.assignedUsername = assignedUsername;
+            this.assignedUserId = assignedUserId;
+        }
+    }
+
+    // State of one import: the current batch, the user lookup tables and the report
+    private final class Import {
+
+        private final TaskImportResponse report;
+        private final User createdBy;
+        private final Map<String, User> usersByName = new HashMap<>();
+        private final Map<Long, User> usersById = new HashMap<>();
+
+        private final List<Task> batch = new ArrayList<>(batchSize);
+        private final List<Long> batchLines = new ArrayList<>(batchSize);
+
+        Import(TaskImportResponse report) {
+            this.report = report;
+            this.createdBy = userDirectory.currentUser();
+            for (User u : userDirectory.findAll()) {
+                usersByName.put(u.getUsername(), u);
+                usersById.put(u.getId(), u);
+            }
+        }
+
+        void accept(long line, RowParser parser) {
+            Task task;
+            try {
+                task = toTask(parser.parse());
+            } catch (IllegalArgumentException e) {
+                reject(line, e.getMessage());
+                return;
+            }
+
+            batch.add(task);
+            batchLines.add(line);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            report.setFailed(report.getFailed() + 1);
+            if (report.getErrors().size() < maxErrors) {
+                report.getErrors().add(new TaskImportResponse.RowError(line, message));
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(tx -> {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                    for (Task t : batch) {
+                        entityManager.persist(t);
+                        notificationService.notifyTaskCreated(t); // sent after this batch commits
+                        taskSearchIndex.index(t);                 // likewise indexed after commit
+                        bookingIndex.added(t);                    // and booked
+                    }
+                    dataVersion.tasksChanged();
+                    entityManager.flush();
+                });
+                for (Task t : batch) {
+                    taskStatsService.onTaskCreated(t.getStatus(), t.getPriority());
+                }
+                report.setImported(report.getImported() + batch.size());
+            } catch (RuntimeException e) {
+                // Rows passed validation, so this is a constraint or connection problem: fail the whole batch
+                String reason = "Batch not saved: " + e.getClass().getSimpleName();
+                for (Long line : batchLines) {
+                    reject(line, reason);
+                }
+            } finally {
+                entityManager.clear();
+                batch.clear();
+                batchLines.clear();
+            }
+        }
+
+        private Task toTask(Row row) {
+            if (row.title == null || row.title.isBlank()) {
+                throw new IllegalArgumentException("title is required");
+            }
+            if (row.title.length() > TITLE_MAX) {
+                throw new IllegalArgumentException("title is longer than " + TITLE_MAX + " characters");
+            }
+            if (row.description != null && row.description.length() > DESCRIPTION_MAX) {
+                throw new IllegalArgumentException("description is longer than " + DESCRIPTION_MAX + " characters");
+            }
+
+            Priority priority;
+            try {
+                priority = Priority.valueOf(required(row.priority, "priority").trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid priority: " + row.priority);
+            }
+
+            LocalDateTime when;
+            try {
+                when = LocalDateTime.parse(required(row.taskDateTime, "taskDateTime").trim());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid taskDateTime: " + row.taskDateTime);
+            }
+
+            Integer duration = null;
+            if (row.durationMinutes != null) {
+                try {
+                    duration = Integer.valueOf(row.durationMinutes.trim());
+                } catch (NumberFormatException e) {
+                    duration = 0;
+                }
+                if (duration <= 0) {
+                    throw new IllegalArgumentException("Invalid durationMinutes: " + row.durationMinutes);
+                }
+            }
+
+            Task t = new Task();
+            t.setTitle(row.title);
+            t.setDescription(row.description);
+            t.setPriority(priority);
+            t.setTaskDateTime(when);
+            t.setDurationMinutes(duration);
+            t.setAssignedUser(assignee(row));
+            t.setCreatedBy(createdBy);
+            t.setStatus(TaskStatus.PENDING);
+            return t;
+        }
+
+        private User assignee(Row row) {
+            User u;
+            if (row.assignedUsername != null) {
+                u = usersByName.get(row.assignedUsername.trim());
+            } else if (row.assignedUserId != null) {
+                try {
+                    u = usersById.get(Long.parseLong(row.assignedUserId.trim()));
+                } catch (NumberFormatException e) {
+                    u = null;
+                }
+            } else {
+                throw new IllegalArgumentException("assignedUsername or assignedUserId is required");
+            }
+
+            if (u == null) {
+                throw new IllegalArgumentException("Assigned user not found");
+            }
+            return u;
+        }
+
+        private String required(String value, String name) {
+            if (value == null || value.isBlank()) {
+                throw new IllegalArgumentException(name + " is required");
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over task title and description, used by GET /api/tasks/search.
+ *
+ * Text is lower-cased, stripped of accents and split on anything that is not a letter or digit;
+ * tokens shorter than MIN_TOKEN_LENGTH are dropped. Every query term matches index tokens it is a prefix of
+ * and all terms must match (AND). Score per term is weight * idf, where a title occurrence weighs
+ * TITLE_WEIGHT and a description occurrence 1 (log-damped), and a prefix-only match counts PREFIX_FACTOR.
+ *
+ * Built from the database when the application is ready, then kept current by TaskService,
+ * TaskImportService and TaskArchiveService, always after commit. Rows changed behind their back are only seen after rebuild().
+ */
+@Service
+public class TaskSearchIndex {
+
+    static final int MIN_TOKEN_LENGTH = 2;
+    static final float TITLE_WEIGHT = 3f;
+    static final float PREFIX_FACTOR = 0.5f;
+
+    private final TaskRepository taskRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment current = new Segment();
+    // Changes committed while rebuild() reads the table, replayed onto the new segment (guarded by lock)
+    private List<Change> duringRebuild;
+
+    public TaskSearchIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    // Streams the whole table once; searches keep using the old segment until the new one is swapped in
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            duringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        try (Stream<TaskRepository.SearchRow> rows = taskRepository.streamSearchRows()) {
+            rows.forEach(r -> fresh.put(r.getId(), r.getTitle(), r.getDescription(), r.getStatus(),
+                    r.getAssignedUserId(), r.getCreatedById()));
+        } finally {
+            lock.writeLock().lock();
+            try {
+                duringRebuild.forEach(c -> c.applyTo(fresh));
+                current = fresh;
+                duringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // New task (or new text): indexed once the surrounding transaction commits
+    public void index(Task task) {
+        Long id = task.getId();
+        String title = task.getTitle();
+        String description = task.getDescription();
+        TaskStatus status = task.getStatus();
+        Long assignedUserId = idOf(task.getAssignedUser());
+        Long createdById = idOf(task.getCreatedBy());
+        afterCommit(s -> s.put(id, title, description, status, assignedUserId, createdById));
+    }
+
+    public void statusChanged(Long taskId, TaskStatus status) {
+        afterCommit(s -> s.setStatus(taskId, status));
+    }
+
+    // Task left the table (archived): no longer found once the transaction commits
+    public void removed(Long taskId) {
+        afterCommit(s -> s.remove(taskId));
+    }
+
+    // Task ids ranked best first, at most limit of them; status null means any status
+    public List<Long> search(String query, TaskStatus status, int limit) {
+        return search(query, status, null, limit);
+    }
+
+    // Same, only tasks assigned to or created by the user; userId null means anyone's
+    public List<Long> search(String query, TaskStatus status, Long userId, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return current.search(terms, status, userId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        for (String t : folded.split("[^\\p{L}\\p{N}]+")) {
+            if (t.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(t);
+            }
+        }
+        return tokens;
+    }
+
+    private static Long idOf(User user) {
+        return (user == null) ? null : user.getId();
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A rolled-back task must never show up in results
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            change.applyTo(current);
+            if (duringRebuild != null) {
+                duringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private interface Change {
+        void applyTo(Segment segment);
+    }
+
+    private static final class Doc {
+        final Set<String> tokens;
+        final Long assignedUserId;
+        final Long createdById;
+        TaskStatus status;
+
+        Doc(Set<String> tokens, TaskStatus status, Long assignedUserId, Long createdById) {
+            this.tokens = tokens;
+            this.status = status;
+            this.assignedUserId = assignedUserId;
+            this.createdById = createdById;
+        }
+
+        boolean matches(TaskStatus status, Long userId) {
+            return (status == null || this.status == status)
+                    && (userId == null || userId.equals(assignedUserId) || userId.equals(createdById));
+        }
+    }
+
+    // One complete index; not thread-safe on its own, TaskSearchIndex.lock guards it
+    private static final class Segment {
+
+        // token -> (task id -> weight); sorted so a prefix is a contiguous sub-map
+        final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+        final Map<Long, Doc> docs = new HashMap<>();
+
+        void put(Long id, String title, String description, TaskStatus status,
+                 Long assignedUserId, Long createdById) {
+            remove(id);
+
+            Map<String, Float> weights = new HashMap<>();
+            for (String t : tokenize(title)) weights.merge(t, TITLE_WEIGHT, Float::sum);
+            for (String t : tokenize(description)) weights.merge(t, 1f, Float::sum);
+
+            weights.forEach((token, raw) ->
+                    postings.computeIfAbsent(token, k -> new HashMap<>())
+                            .put(id, 1f + (float) Math.log(raw)));
+            docs.put(id, new Doc(weights.keySet(), status, assignedUserId, createdById));
+        }
+
+        void remove(Long id) {
+            Doc old = docs.remove(id);
+            if (old == null) return;
+            for (String token : old.tokens) {
+                Map<Long, Float> ids = postings.get(token);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) postings.remove(token);
+                }
+            }
+        }
+
+        void setStatus(Long id, TaskStatus status) {
+            Doc doc = docs.get(id);
+            if (doc != null) {
+                doc.status = status;
+            }
+        }
+
+        List<Long> search(List<String> terms, TaskStatus status, Long userId, int limit) {
+            int total = docs.size();
+            Map<Long, Float> scores = null;
+
+            for (String term : terms) {
+                Map<Long, Float> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<Long, Float>> e
+                        : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+                    Map<Long, Float> ids = e.getValue();
+                    float idf = (float) Math.log(1 + (double) total / ids.size());
+                    float factor = e.getKey().equals(term) ? 1f : PREFIX_FACTOR;
+
+                    ids.forEach((id, weight) -> {
+                        if (docs.get(id).matches(status, userId)) {
+                            termScores.merge(id, weight * idf * factor, Math::max);
+                        }
+                    });
+                }
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<Long, Float> previous = scores;
+                    termScores.keySet().retainAll(previous.keySet());
+                    termScores.replaceAll((id, s) -> s + previous.get(id));
+                    scores = termScores;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            // Best score first, newest task first on ties
+            Map<Long, Float> ranked = scores;
+            return ranked.keySet().stream()
+                    .sorted(Comparator.<Long>comparingDouble(ranked::get).reversed()
+                            .thenComparing(Comparator.reverseOrder()))
+                    .limit(limit)
+                    .toList();
+        }
+    }
+}
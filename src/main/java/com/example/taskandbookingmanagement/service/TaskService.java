@@ -1,50 +1,124 @@
 package com.example.taskandbookingmanagement.service;
 
+import com.example.taskandbookingmanagement.dto.TaskBulkDecisionResponse;
 import com.example.taskandbookingmanagement.dto.TaskCreateRequest;
 import com.example.taskandbookingmanagement.dto.TaskDecisionRequest;
+import com.example.taskandbookingmanagement.dto.TaskEvent;
+import com.example.taskandbookingmanagement.dto.TaskFieldsPage;
+import com.example.taskandbookingmanagement.dto.TaskPage;
 import com.example.taskandbookingmanagement.dto.TaskResponse;
+import com.example.taskandbookingmanagement.dto.TaskStatsResponse;
+import com.example.taskandbookingmanagement.metrics.TaskMetrics;
 import com.example.taskandbookingmanagement.model.*;
 import com.example.taskandbookingmanagement.repository.TaskRepository;
-import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.repository.TaskSpecifications;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TaskService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    // Ids per conditional UPDATE of a bulk decision (keeps the IN list a sane size)
+    static final int BULK_DECISION_CHUNK = 500;
+    static final int DEFAULT_SEARCH_LIMIT = 20;
+    static final int MAX_SEARCH_LIMIT = 100;
+
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
     private final NotificationService notificationService;
+    private final TaskStatsService taskStatsService;
+    private final EntityManager entityManager;
+    private final TaskMetrics taskMetrics;
+    private final TaskSearchIndex taskSearchIndex;
+    private final BookingIndex bookingIndex;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final DataVersion dataVersion;
 
     public TaskService(TaskRepository taskRepository,
-                       UserRepository userRepository,
-                       NotificationService notificationService) {
+                       UserDirectory userDirectory,
+                       NotificationService notificationService,
+                       TaskStatsService taskStatsService,
+                       EntityManager entityManager,
+                       TaskMetrics taskMetrics,
+                       TaskSearchIndex taskSearchIndex,
+                       BookingIndex bookingIndex,
+                       TaskEventBroadcaster taskEventBroadcaster,
+                       DataVersion dataVersion) {
         this.taskRepository = taskRepository;
-        this.userRepository = userRepository;
+        this.userDirectory = userDirectory;
         this.notificationService = notificationService;
+        this.taskStatsService = taskStatsService;
+        this.entityManager = entityManager;
+        this.taskMetrics = taskMetrics;
+        this.taskSearchIndex = taskSearchIndex;
+        this.bookingIndex = bookingIndex;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.dataVersion = dataVersion;
     }
 
+    @Transactional
     public TaskResponse createTask(TaskCreateRequest req) {
-        User assigned = userRepository.findById(req.getAssignedUserId())
+        return taskMetrics.time(TaskMetrics.CREATE, () -> create(req));
+    }
+
+    private TaskResponse create(TaskCreateRequest req) {
+        User assigned = userDirectory.findById(req.getAssignedUserId())
                 .orElseThrow(() -> new IllegalArgumentException("Assigned user not found"));
 
-        User createdBy = getCurrentUserEntity();
+        User createdBy = userDirectory.currentUser();
 
         Task t = new Task();
         t.setTitle(req.getTitle());
         t.setDescription(req.getDescription());
         t.setTaskDateTime(req.getTaskDateTime());
+        t.setDurationMinutes(req.getDurationMinutes());
         t.setPriority(req.getPriority());
         t.setAssignedUser(assigned);
         t.setCreatedBy(createdBy);
         t.setStatus(TaskStatus.PENDING);
 
         Task saved = taskRepository.save(t);
+        // Throws TaskConflictException (409) if the assignee is already booked then; rolls the INSERT back
+        bookingIndex.book(saved);
+        taskStatsService.onTaskCreated(saved.getStatus(), saved.getPriority());
+        taskSearchIndex.index(saved);
+        taskEventBroadcaster.publish(TaskEvent.created(saved));
+        dataVersion.tasksChanged();
 
         // ✅ Notify assigned user that a task was created for them
         notificationService.notifyTaskCreated(saved);
@@ -52,74 +126,476 @@ public class TaskService {
         return toResponse(saved);
     }
 
-    public List<TaskResponse> listTasks(TaskStatus status, String sortBy, String sortDir) {
+    // Full-text search over title + description (see TaskSearchIndex), best match first.
+    // The index picks and ranks the ids; their rows come from one SELECT.
+    @Transactional(readOnly = true)
+    public List<TaskResponse> searchTasks(String query, TaskStatus status, Integer limit) {
+        List<TaskResponse> result = taskMetrics.time(TaskMetrics.SEARCH, () -> search(query, status, limit));
+        taskMetrics.resultSize(TaskMetrics.SEARCH, result.size());
+        return result;
+    }
+
+    private List<TaskResponse> search(String query, TaskStatus status, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("q is required");
+        }
+        int size = (limit == null) ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+
+        List<Long> ids = taskSearchIndex.search(query, status, visibleTo(), size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Task> byId = new HashMap<>();
+        for (Task t : taskRepository.findByIdIn(ids)) {
+            byId.put(t.getId(), t);
+        }
+
+        List<TaskResponse> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Task t = byId.get(id);
+            // The row is the truth: skip tasks deleted or moved out of the status since they were indexed
+            if (t != null && (status == null || t.getStatus() == status)) {
+                result.add(toResponse(t));
+            }
+        }
+        return result;
+    }
+
+    // Keyset paging: never loads more than one page, cost does not depend on how deep the cursor is.
+    // from (inclusive) / to (exclusive) restrict taskDateTime, e.g. to the month shown by the calendar.
+    public TaskPage listTasksPage(TaskStatus status, LocalDateTime from, LocalDateTime to,
+                                  String sortBy, String sortDir, String after, Integer limit) {
+        TaskPage page = taskMetrics.time(TaskMetrics.PAGE,
+                () -> page(TaskSpecifications.involves(visibleTo()), status, from, to, sortBy, sortDir, after, limit));
+        taskMetrics.resultSize(TaskMetrics.PAGE, page.getItems().size());
+        return page;
+    }
+
+    // The caller's own tasks: role "assignee" (default) or "creator", in taskDateTime order, paged like
+    // listTasksPage. Filtered on the foreign key with the caller's id from the principal, so no user is read
+    // before the page query; the owner indexes (db/migration V3) return the rows already in order.
+    public TaskPage listMyTasksPage(String role, TaskStatus status, LocalDateTime from, LocalDateTime to,
+                                    String sortDir, String after, Integer limit) {
+        Long me = getCurrentUserId();
+        Specification<Task> owner = switch ((role == null || role.isBlank()) ? "assignee" : role) {
+            case "assignee" -> TaskSpecifications.assignedTo(me);
+            case "creator" -> TaskSpecifications.createdBy(me);
+            default -> throw new InvalidTaskQueryException("Unsupported role: " + role);
+        };
+
+        TaskPage page = taskMetrics.time(TaskMetrics.MINE,
+                () -> page(owner, status, from, to, "taskDateTime", sortDir, after, limit));
+        taskMetrics.resultSize(TaskMetrics.MINE, page.getItems().size());
+        return page;
+    }
+
+    private TaskPage page(Specification<Task> owner, TaskStatus status, LocalDateTime from, LocalDateTime to,
+                          String sortBy, String sortDir, String after, Integer limit) {
+        String property = pageProperty(sortBy, from, to);
+        Sort.Direction dir = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = pageSort(property, dir);
+        ScrollPosition position = TaskCursor.decode(after, property, dir);
+        int size = pageSize(limit);
+
+        Specification<Task> spec = Specification.allOf(
+                owner,
+                TaskSpecifications.hasStatus(status),
+                TaskSpecifications.taskDateFrom(from),
+                TaskSpecifications.taskDateBefore(to),
+                TaskSpecifications.fetchUsers()
+        );
+        Window<Task> window = taskRepository.findBy(spec, q -> q.sortBy(sort).limit(size).scroll(position));
+
+        List<Task> tasks = window.getContent();
+        String nextCursor = (window.hasNext() && !tasks.isEmpty())
+                ? TaskCursor.encode(property, dir, tasks.get(tasks.size() - 1))
+                : null;
+
+        return new TaskPage(tasks.stream().map(TaskService::toResponse).toList(), nextCursor);
+    }
+
+    // Same page and cursor as listTasksPage, but only the given fields (see TaskFields): one SELECT of just
+    // those columns into tuples, no entities, and the users table is only joined for user names.
+    // archived = read tasks_archive (see TaskArchiveService) instead of tasks.
+    public TaskFieldsPage listTaskFieldsPage(TaskStatus status, LocalDateTime from, LocalDateTime to,
+                                             String sortBy, String sortDir, String after, Integer limit,
+                                             List<String> fields, boolean archived) {
+        TaskFieldsPage page = taskMetrics.time(TaskMetrics.PAGE,
+                () -> fieldsPage(status, from, to, sortBy, sortDir, after, limit, fields, archived));
+        taskMetrics.resultSize(TaskMetrics.PAGE, page.getItems().size());
+        return page;
+    }
+
+    private TaskFieldsPage fieldsPage(TaskStatus status, LocalDateTime from, LocalDateTime to,
+                                      String sortBy, String sortDir, String after, Integer limit,
+                                      List<String> fields, boolean archived) {
+        String property = pageProperty(sortBy, from, to);
+        Sort.Direction dir = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = pageSort(property, dir);
+        ScrollPosition position = TaskCursor.decode(after, property, dir);
+        int size = pageSize(limit);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = from(query, archived);
+
+        // The next cursor needs the sort key and id of the last row, whether they were asked for or not
+        List<String> selected = new ArrayList<>(fields);
+        if (!selected.contains(property)) selected.add(property);
+        if (!selected.contains("id")) selected.add("id");
+        query.select(cb.tuple(select(selected, root)));
+
+        List<Predicate> where = new ArrayList<>();
+        addIfPresent(where, TaskSpecifications.involves(visibleTo(), root, query, cb));
+        addIfPresent(where, TaskSpecifications.hasStatus(status, root, cb));
+        addIfPresent(where, TaskSpecifications.taskDateFrom(from, root, cb));
+        addIfPresent(where, TaskSpecifications.taskDateBefore(to, root, cb));
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            where.add(after(keyset, property, dir, root, cb));
+        }
+        query.where(where.toArray(new Predicate[0]));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        // One extra row tells whether there is a next page
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(size + 1).getResultList();
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            nextCursor = TaskCursor.encode(property, dir, last.get("id", Long.class), last.get(property));
+        }
+
+        return new TaskFieldsPage(rows.stream().map(r -> row(r, fields)).toList(), nextCursor);
+    }
+
+    private static String pageProperty(String sortBy, LocalDateTime from, LocalDateTime to) {
+        String property = (sortBy == null || sortBy.isBlank()) ? "taskDateTime" : sortBy;
+        if (!TaskCursor.isSupported(property)) {
+            throw new InvalidTaskQueryException("Unsupported sortBy: " + property);
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidTaskQueryException("from must be before to");
+        }
+        return property;
+    }
+
+    // id is the tie-breaker so the position is unique
+    private static Sort pageSort(String property, Sort.Direction dir) {
+        return "id".equals(property)
+                ? Sort.by(dir, "id")
+                : Sort.by(dir, property).and(Sort.by(dir, "id"));
+    }
+
+    private static int pageSize(Integer limit) {
+        return (limit == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    // (key, id) after the cursor's (value, lastId) in the sort direction
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate after(KeysetScrollPosition position, String property, Sort.Direction dir,
+                                   From<?, ?> root, CriteriaBuilder cb) {
+        Long lastId = (Long) position.getKeys().get("id");
+        Expression<Long> id = root.get("id");
+        Predicate idAfter = dir.isAscending() ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        if ("id".equals(property)) {
+            return idAfter;
+        }
+
+        Expression<Comparable> key = root.get(property);
+        Comparable value = (Comparable) position.getKeys().get(property);
+        Predicate keyAfter = dir.isAscending() ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        return cb.or(keyAfter, cb.and(cb.equal(key, value), idAfter));
+    }
+
+    // Streams every matching task to the consumer, one row at a time.
+    // The persistence context is cleared after each chunk, so memory stays flat whatever the row count.
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskStatus status, String sortBy, String sortDir, Consumer<TaskResponse> rowConsumer) {
+        int rows = taskMetrics.time(TaskMetrics.EXPORT, () -> export(status, sortBy, sortDir, rowConsumer));
+        taskMetrics.resultSize(TaskMetrics.EXPORT, rows);
+    }
+
+    private int export(TaskStatus status, String sortBy, String sortDir, Consumer<TaskResponse> rowConsumer) {
         Sort sort = buildSort(sortBy, sortDir);
+        Long me = visibleTo();
+        int rows = 0;
 
-        List<Task> tasks;
-        if (status != null) {
-            tasks = taskRepository.findByStatus(status, sort);
-        } else {
-            tasks = taskRepository.findAll(sort);
+        try (Stream<Task> tasks = (me != null) ? streamInvolving(me, status, sort)
+                : (status != null) ? taskRepository.streamByStatus(status, sort)
+                : taskRepository.streamAllBy(sort)) {
+
+            int inChunk = 0;
+            Iterator<Task> it = tasks.iterator();
+            while (it.hasNext()) {
+                rowConsumer.accept(toResponse(it.next()));
+                rows++;
+
+                if (++inChunk == TaskRepository.STREAM_FETCH_SIZE) {
+                    entityManager.clear();
+                    inChunk = 0;
+                }
+            }
         }
+        return rows;
+    }
+
+    // A USER's export: the streamAllBy query with the owner filter, same hints and fetched users
+    private Stream<Task> streamInvolving(Long userId, TaskStatus status, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        Predicate where = Specification.allOf(
+                TaskSpecifications.involves(userId),
+                TaskSpecifications.hasStatus(status),
+                TaskSpecifications.fetchUsers()
+        ).toPredicate(root, query, cb);
+        if (where != null) query.where(where);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
 
-        return tasks.stream().map(this::toResponse).toList();
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, TaskRepository.STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
     }
 
+    // exportTasks for ?fields=: streams only the given columns (see TaskFields), in the order given.
+    // archived = read tasks_archive instead of tasks.
+    @Transactional(readOnly = true)
+    public void exportTaskFields(TaskStatus status, String sortBy, String sortDir, List<String> fields,
+                                 boolean archived, Consumer<Map<String, Object>> rowConsumer) {
+        int rows = taskMetrics.time(TaskMetrics.EXPORT,
+                () -> exportFields(status, sortBy, sortDir, fields, archived, rowConsumer));
+        taskMetrics.resultSize(TaskMetrics.EXPORT, rows);
+    }
+
+    private int exportFields(TaskStatus status, String sortBy, String sortDir, List<String> fields,
+                             boolean archived, Consumer<Map<String, Object>> rowConsumer) {
+        Sort sort = buildSort(sortBy, sortDir);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = from(query, archived);
+        query.select(cb.tuple(select(fields, root)));
+        List<Predicate> where = new ArrayList<>();
+        addIfPresent(where, TaskSpecifications.involves(visibleTo(), root, query, cb));
+        addIfPresent(where, TaskSpecifications.hasStatus(status, root, cb));
+        query.where(where.toArray(new Predicate[0]));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        // Tuples are not managed, so unlike export() there is no persistence context to clear
+        int rows = 0;
+        try (Stream<Tuple> tuples = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, TaskRepository.STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+
+            Iterator<Tuple> it = tuples.iterator();
+            while (it.hasNext()) {
+                rowConsumer.accept(row(it.next(), fields));
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    // Either entity: the filters, TaskFields paths and keyset predicate below take any root and look
+    // attributes up by name, and ArchivedTask has every Task attribute they use
+    private static Root<?> from(CriteriaQuery<Tuple> query, boolean archived) {
+        return archived ? query.from(ArchivedTask.class) : query.from(Task.class);
+    }
+
+    private static void addIfPresent(List<Predicate> where, Predicate predicate) {
+        if (predicate != null) where.add(predicate);
+    }
+
+    private static Selection<?>[] select(List<String> fields, From<?, ?> root) {
+        Map<String, Join<?, ?>> joins = new HashMap<>();
+        Selection<?>[] selections = new Selection<?>[fields.size()];
+        for (int i = 0; i < selections.length; i++) {
+            String f = fields.get(i);
+            selections[i] = TaskFields.path(f, root, joins).alias(f);
+        }
+        return selections;
+    }
+
+    private static Map<String, Object> row(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String f : fields) {
+            row.put(f, tuple.get(f));
+        }
+        return row;
+    }
+
+    // Dashboard counts over the same tasks the caller can list: everything for MANAGER/ADMIN, own tasks for USER
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getStats() {
+        return taskStatsService.getStats(visibleTo());
+    }
+
+    @Transactional
     public TaskResponse decide(Long taskId, TaskDecisionRequest.Decision decision) {
+        return decide(taskId, decision, null);
+    }
+
+    // Optimistic: read, then one conditional UPDATE keyed on PENDING + version. Whoever loses a race
+    // (or passes a stale expectedVersion) gets TaskConflictException (409) without waiting on a lock.
+    @Transactional
+    public TaskResponse decide(Long taskId, TaskDecisionRequest.Decision decision, Long expectedVersion) {
+        return taskMetrics.time(TaskMetrics.DECIDE, () -> applyDecision(taskId, decision, expectedVersion));
+    }
+
+    private TaskResponse applyDecision(Long taskId, TaskDecisionRequest.Decision decision, Long expectedVersion) {
         // ✅ Manager OR Admin can approve/reject
-        User actor = getCurrentUserEntity();
+        User actor = userDirectory.currentUser();
         if (actor.getRole() != Role.MANAGER && actor.getRole() != Role.ADMIN) {
             throw new SecurityException("Only MANAGER or ADMIN can approve/reject tasks");
         }
 
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithUsersById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found"));
 
         if (task.getStatus() != TaskStatus.PENDING) {
-            throw new IllegalStateException("Only PENDING tasks can be approved/rejected");
+            throw new TaskConflictException("Only PENDING tasks can be approved/rejected");
+        }
+        if (expectedVersion != null && expectedVersion != task.getVersion()) {
+            throw new TaskConflictException("Task was modified by someone else");
         }
 
         TaskStatus newStatus = (decision == TaskDecisionRequest.Decision.APPROVE)
                 ? TaskStatus.APPROVED
                 : TaskStatus.REJECTED;
+        LocalDateTime at = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
 
-        task.setStatus(newStatus);
-        task.setDecisionBy(actor);
-        task.setDecisionAt(LocalDateTime.now());
+        int updated = taskRepository.compareAndSetStatus(
+                taskId, TaskStatus.PENDING, task.getVersion(), newStatus, actor, at);
+        if (updated == 0) {
+            throw new TaskConflictException("Task was approved/rejected by someone else");
+        }
+        task.recordDecision(newStatus, actor, at);
 
-        Task saved = taskRepository.save(task);
+        taskStatsService.onStatusChanged(TaskStatus.PENDING, newStatus);
+        taskMetrics.transition(TaskStatus.PENDING, newStatus);
+        taskSearchIndex.statusChanged(taskId, newStatus);
+        if (newStatus == TaskStatus.REJECTED) {
+            bookingIndex.released(task.getAssignedUser().getId(), taskId);
+        }
+        taskEventBroadcaster.publish(TaskEvent.decided(task));
+        dataVersion.tasksChanged();
 
         // ✅ Notify recipients (Assigned always, Creator if different)
         if (decision == TaskDecisionRequest.Decision.APPROVE) {
-            notificationService.notifyTaskApproved(saved, actor);
+            notificationService.notifyTaskApproved(task, actor);
         } else {
-            notificationService.notifyTaskRejected(saved, actor);
+            notificationService.notifyTaskRejected(task, actor);
         }
 
-        return toResponse(saved);
+        return toResponse(task);
+    }
+
+    // Approve/reject many tasks with one conditional UPDATE per chunk of ids.
+    // Only rows still PENDING change; only those are reported as transitioned and notified.
+    @Transactional
+    public TaskBulkDecisionResponse decideAll(List<Long> taskIds, TaskDecisionRequest.Decision decision) {
+        return taskMetrics.time(TaskMetrics.BULK_DECIDE, () -> applyDecisions(taskIds, decision));
+    }
+
+    private TaskBulkDecisionResponse applyDecisions(List<Long> taskIds, TaskDecisionRequest.Decision decision) {
+        User actor = userDirectory.currentUser();
+        if (actor.getRole() != Role.MANAGER && actor.getRole() != Role.ADMIN) {
+            throw new SecurityException("Only MANAGER or ADMIN can approve/reject tasks");
+        }
+        if (taskIds == null || taskIds.isEmpty()) {
+            throw new IllegalArgumentException("No task ids given");
+        }
+
+        TaskStatus newStatus = (decision == TaskDecisionRequest.Decision.APPROVE)
+                ? TaskStatus.APPROVED
+                : TaskStatus.REJECTED;
+        // DB keeps microseconds; truncating lets findDecided match on the exact value written
+        LocalDateTime at = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(taskIds));
+        LinkedHashSet<Long> transitioned = new LinkedHashSet<>();
+
+        for (int from = 0; from < ids.size(); from += BULK_DECISION_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_DECISION_CHUNK, ids.size()));
+
+            int updated = taskRepository.transitionAll(chunk, TaskStatus.PENDING, newStatus, actor, at);
+            if (updated == 0) continue;
+
+            for (Task t : taskRepository.findDecided(chunk, newStatus, actor, at)) {
+                transitioned.add(t.getId());
+                taskSearchIndex.statusChanged(t.getId(), newStatus);
+                if (newStatus == TaskStatus.REJECTED) {
+                    bookingIndex.released(t.getAssignedUser().getId(), t.getId());
+                }
+                if (decision == TaskDecisionRequest.Decision.APPROVE) {
+                    notificationService.notifyTaskApproved(t, actor);
+                } else {
+                    notificationService.notifyTaskRejected(t, actor);
+                }
+            }
+        }
+
+        if (!transitioned.isEmpty()) {
+            taskEventBroadcaster.publish(TaskEvent.refresh()); // one event, not one per task
+            dataVersion.tasksChanged();
+        }
+        taskStatsService.onStatusChanged(TaskStatus.PENDING, newStatus, transitioned.size());
+        taskMetrics.transition(TaskStatus.PENDING, newStatus, transitioned.size());
+
+        List<Long> skipped = ids.stream().filter(id -> !transitioned.contains(id)).toList();
+        return new TaskBulkDecisionResponse(List.copyOf(transitioned), skipped);
     }
 
+    // Same whitelist as paging (TaskCursor), so every sort is served by an index
     private Sort buildSort(String sortBy, String sortDir) {
         String property = (sortBy == null || sortBy.isBlank()) ? "taskDateTime" : sortBy;
+        if (!TaskCursor.isSupported(property)) {
+            throw new InvalidTaskQueryException("Unsupported sortBy: " + property);
+        }
         Sort.Direction dir = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
         return Sort.by(dir, property);
     }
 
-    private User getCurrentUserEntity() {
+    // Whose tasks the caller may read: a USER only those assigned to or created by them (their id),
+    // MANAGER and ADMIN every task (null), as do calls without a login (jobs). The role comes from the
+    // principal's authorities, so no user is read for token and form logins.
+    private Long visibleTo() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalStateException("Logged-in user not found in DB: " + username));
+        if (auth == null) {
+            return null;
+        }
+        if (auth.getPrincipal() instanceof AuthenticatedUser principal) {
+            boolean seesAll = principal.getAuthorities().stream().map(GrantedAuthority::getAuthority)
+                    .anyMatch(a -> a.equals("ROLE_" + Role.MANAGER) || a.equals("ROLE_" + Role.ADMIN));
+            return seesAll ? null : principal.getId();
+        }
+        User user = userDirectory.currentUser();
+        return (user.getRole() == Role.MANAGER || user.getRole() == Role.ADMIN) ? null : user.getId();
+    }
+
+    // Token and form logins carry the id in the principal; anything else falls back to the user directory
+    private Long getCurrentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getId();
+        }
+        return userDirectory.currentUser().getId();
     }
 
-    private TaskResponse toResponse(Task t) {
+    // Static: reads only the task and its (already loaded) users, so it needs no collaborator
+    static TaskResponse toResponse(Task t) {
         TaskResponse r = new TaskResponse();
         r.setId(t.getId());
+        r.setVersion(t.getVersion());
         r.setTitle(t.getTitle());
         r.setDescription(t.getDescription());
         r.setStatus(t.getStatus());
         r.setPriority(t.getPriority());
         r.setTaskDateTime(t.getTaskDateTime());
+        r.setDurationMinutes(t.getDurationMinutes());
 
         r.setAssignedUserId(t.getAssignedUser().getId());
         r.setAssignedUsername(t.getAssignedUser().getUsername());
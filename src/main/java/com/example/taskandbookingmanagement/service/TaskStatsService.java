@@ -0,0 +1,162 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskStatsResponse;
+import com.example.taskandbookingmanagement.model.Priority;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Task counts per status and per priority for the dashboard.
+ *
+ * Default mode runs two GROUP BY queries per call.
+ * With app.tasks.stats.in-memory=true the counts are kept in memory: they are loaded once from
+ * the grouped queries and then kept current by TaskService.createTask/decide and TaskArchiveService,
+ * so a read costs no SQL. A change made inside a transaction is counted once that transaction commits.
+ * Rows changed outside TaskService are not seen in that mode until reload() is called.
+ * Counts for a single user (a USER caller only sees their own tasks) are always queried.
+ */
+@Service
+public class TaskStatsService {
+
+    private final TaskRepository taskRepository;
+    private final boolean inMemory;
+
+    private final Map<TaskStatus, AtomicLong> statusCounts = new EnumMap<>(TaskStatus.class);
+    private final Map<Priority, AtomicLong> priorityCounts = new EnumMap<>(Priority.class);
+    private volatile boolean loaded;
+
+    public TaskStatsService(TaskRepository taskRepository,
+                            @Value("${app.tasks.stats.in-memory:false}") boolean inMemory) {
+        this.taskRepository = taskRepository;
+        this.inMemory = inMemory;
+
+        for (TaskStatus s : TaskStatus.values()) statusCounts.put(s, new AtomicLong());
+        for (Priority p : Priority.values()) priorityCounts.put(p, new AtomicLong());
+    }
+
+    public TaskStatsResponse getStats() {
+        if (!inMemory) {
+            return queryStats();
+        }
+        if (!loaded) {
+            reload();
+        }
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        statusCounts.forEach((k, v) -> byStatus.put(k, v.get()));
+
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        priorityCounts.forEach((k, v) -> byPriority.put(k, v.get()));
+
+        return toResponse(byStatus, byPriority);
+    }
+
+    // Counts over the tasks assigned to or created by userId; null means all tasks
+    public TaskStatsResponse getStats(Long userId) {
+        if (userId == null) {
+            return getStats();
+        }
+        return toResponse(taskRepository.countGroupedByStatusInvolving(userId),
+                taskRepository.countGroupedByPriorityInvolving(userId));
+    }
+
+    // Re-reads the counters from the database (in-memory mode only)
+    public synchronized void reload() {
+        if (!inMemory) {
+            return;
+        }
+        TaskStatsResponse fresh = queryStats();
+        fresh.getByStatus().forEach((k, v) -> statusCounts.get(k).set(v));
+        fresh.getByPriority().forEach((k, v) -> priorityCounts.get(k).set(v));
+        loaded = true;
+    }
+
+    // Called by TaskService after a task was saved
+    public void onTaskCreated(TaskStatus status, Priority priority) {
+        afterCommit(() -> {
+            statusCounts.get(status).incrementAndGet();
+            priorityCounts.get(priority).incrementAndGet();
+        });
+    }
+
+    // Called by TaskService after a status transition was saved
+    public void onStatusChanged(TaskStatus from, TaskStatus to) {
+        onStatusChanged(from, to, 1);
+    }
+
+    // Same for a bulk decision that moved "count" tasks at once
+    public void onStatusChanged(TaskStatus from, TaskStatus to, long count) {
+        if (count > 0) {
+            afterCommit(() -> {
+                statusCounts.get(from).addAndGet(-count);
+                statusCounts.get(to).addAndGet(count);
+            });
+        }
+    }
+
+    // Called by TaskArchiveService after a task was moved to the archive (the dashboard counts "tasks" only)
+    public void onTaskArchived(TaskStatus status, Priority priority) {
+        if (inMemory && loaded) {
+            statusCounts.get(status).decrementAndGet();
+            priorityCounts.get(priority).decrementAndGet();
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!inMemory) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A rolled-back create or decision must never show up in the counts
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    // Counters not loaded yet are read from the committed rows on first use anyway
+    private void apply(Runnable change) {
+        if (loaded) {
+            change.run();
+        }
+    }
+
+    private TaskStatsResponse queryStats() {
+        return toResponse(taskRepository.countGroupedByStatus(), taskRepository.countGroupedByPriority());
+    }
+
+    private TaskStatsResponse toResponse(List<TaskRepository.StatusCount> statusRows,
+                                         List<TaskRepository.PriorityCount> priorityRows) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus s : TaskStatus.values()) byStatus.put(s, 0L);
+        statusRows.forEach(c -> byStatus.put(c.getStatus(), c.getTotal()));
+
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        for (Priority p : Priority.values()) byPriority.put(p, 0L);
+        priorityRows.forEach(c -> byPriority.put(c.getPriority(), c.getTotal()));
+
+        return toResponse(byStatus, byPriority);
+    }
+
+    private TaskStatsResponse toResponse(Map<TaskStatus, Long> byStatus, Map<Priority, Long> byPriority) {
+        TaskStatsResponse r = new TaskStatsResponse();
+        r.setByStatus(byStatus);
+        r.setByPriority(byPriority);
+        r.setTotal(byStatus.values().stream().mapToLong(Long::longValue).sum());
+        return r;
+    }
+}
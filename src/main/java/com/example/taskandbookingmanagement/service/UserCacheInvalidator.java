@@ -0,0 +1,51 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener on User: every insert/update/delete drops the user from the UserDirectory
+ * and moves the users DataVersion (ETag of GET /api/users and GET /api/tasks).
+ *
+ * Invalidates at flush and again after commit, so a reader that reloaded the old row
+ * between the two does not keep it until the TTL runs out.
+ * UserDirectory is looked up lazily because Hibernate creates listeners while the
+ * EntityManagerFactory (which the directory's repository needs) is still being built.
+ */
+@Component
+public class UserCacheInvalidator {
+
+    private final ObjectProvider<UserDirectory> userDirectory;
+    private final DataVersion dataVersion;
+
+    public UserCacheInvalidator(ObjectProvider<UserDirectory> userDirectory, DataVersion dataVersion) {
+        this.userDirectory = userDirectory;
+        this.dataVersion = dataVersion;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        dataVersion.usersChanged();
+
+        UserDirectory directory = userDirectory.getIfAvailable();
+        if (directory == null) return;
+
+        directory.invalidate(user);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    directory.invalidate(user);
+                }
+            });
+        }
+    }
+}
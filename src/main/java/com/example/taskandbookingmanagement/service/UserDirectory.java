@@ -0,0 +1,187 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.CacheStatsResponse;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of users, keyed by id and by username.
+ *
+ * Both maps are LRU-bounded (app.users.cache.max-size) and every entry expires after
+ * app.users.cache.ttl. Any save/delete of a User clears its entries (see UserCacheInvalidator).
+ * A generation counter keeps a lookup that raced with an invalidation from re-caching stale data.
+ *
+ * Cached users are detached entities shared between threads: read them, never modify them.
+ */
+@Service
+public class UserDirectory {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<Long, Entry<User>> byId;
+    private final Map<String, Entry<User>> byUsername;
+    private Entry<List<User>> all;
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public UserDirectory(UserRepository userRepository,
+                         @Value("${app.users.cache.max-size:1000}") int maxSize,
+                         @Value("${app.users.cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = ttl.toNanos();
+        this.byId = lruMap();
+        this.byUsername = lruMap();
+    }
+
+    public Optional<User> findById(Long id) {
+        if (id == null) return Optional.empty();
+        return lookup(byId, id, () -> userRepository.findById(id));
+    }
+
+    public Optional<User> findByUsername(String username) {
+        if (username == null) return Optional.empty();
+        return lookup(byUsername, username, () -> userRepository.findByUsername(username));
+    }
+
+    // The logged-in user: by id for token and form logins (AuthenticatedUser), by username otherwise
+    public User currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth.getPrincipal() instanceof AuthenticatedUser principal) {
+            return findById(principal.getId())
+                    .orElseThrow(() -> new IllegalStateException("Logged-in user not found in DB: " + principal.getUsername()));
+        }
+        String username = auth.getName();
+        return findByUsername(username)
+                .orElseThrow(() -> new IllegalStateException("Logged-in user not found in DB: " + username));
+    }
+
+    // All users (create-task dropdown)
+    public List<User> findAll() {
+        long gen;
+        synchronized (this) {
+            if (all != null && !all.isExpired()) {
+                hits.incrementAndGet();
+                return all.value;
+            }
+            gen = generation;
+        }
+        misses.incrementAndGet();
+
+        List<User> users = List.copyOf(userRepository.findAll());
+        synchronized (this) {
+            if (gen == generation) {
+                all = new Entry<>(users, System.nanoTime() + ttlNanos);
+                users.forEach(this::putUnlocked);
+            }
+        }
+        return users;
+    }
+
+    public synchronized void invalidate(User user) {
+        generation++;
+        all = null;
+
+        Entry<User> cached = byId.remove(user.getId());
+        if (cached != null) {
+            byUsername.remove(cached.value.getUsername()); // old username if it changed
+        }
+        byUsername.remove(user.getUsername());
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        all = null;
+        byId.clear();
+        byUsername.clear();
+    }
+
+    public synchronized CacheStatsResponse getStats() {
+        CacheStatsResponse r = new CacheStatsResponse();
+        r.setHits(hits.get());
+        r.setMisses(misses.get());
+        r.setEvictions(evictions.get());
+        r.setSize(byId.size());
+        r.setMaxSize(maxSize);
+        return r;
+    }
+
+    private <K> Optional<User> lookup(Map<K, Entry<User>> map, K key, Supplier<Optional<User>> loader) {
+        long gen;
+        synchronized (this) {
+            Entry<User> e = map.get(key);
+            if (e != null && !e.isExpired()) {
+                hits.incrementAndGet();
+                return Optional.of(e.value);
+            }
+            if (e != null) {
+                map.remove(key);
+            }
+            gen = generation;
+        }
+        misses.incrementAndGet();
+
+        Optional<User> loaded = loader.get();
+        if (loaded.isPresent()) {
+            synchronized (this) {
+                if (gen == generation) {
+                    putUnlocked(loaded.get());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private void putUnlocked(User u) {
+        Entry<User> e = new Entry<>(u, System.nanoTime() + ttlNanos);
+        byId.put(u.getId(), e);
+        byUsername.put(u.getUsername(), e);
+    }
+
+    private <K> Map<K, Entry<User>> lruMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<User>> eldest) {
+                if (size() > maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAtNanos;
+
+        Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+-- Schema as it was generated from the entities (ddl-auto: update) before migrations took over, with one index
+-- per query shape of TaskRepository / TaskService (checked by TaskQueryPlanTest).
+-- Sorted listing ends every ORDER BY with id as tie-breaker (keyset paging), so id is the last column:
+-- the page is read in index order and the scan stops after "limit" rows, with or without a status filter.
+
+create table users (
+    id            bigint generated by default as identity,
+    name          varchar(255) not null,
+    username      varchar(255) not null,
+    password_hash varchar(255) not null,
+    role          varchar(20)  not null,
+    enabled       boolean      not null,
+    primary key (id),
+    constraint uk_users_username unique (username)
+);
+
+-- Task ids come from a pooled sequence (allocationSize = 50 in Task)
+create sequence tasks_seq start with 1 increment by 50;
+
+create table tasks (
+    id                  bigint        not null,
+    version             bigint        not null,
+    title               varchar(255)  not null,
+    description         varchar(2000),
+    status              varchar(20)   not null,
+    priority            varchar(20)   not null,
+    task_date_time      timestamp(6)  not null,
+    assigned_user_id    bigint        not null,
+    created_by_user_id  bigint        not null,
+    created_at          timestamp(6),
+    updated_at          timestamp(6),
+    decision_at         timestamp(6),
+    decision_by_user_id bigint,
+    primary key (id),
+    constraint fk_tasks_assigned_user foreign key (assigned_user_id) references users (id),
+    constraint fk_tasks_created_by foreign key (created_by_user_id) references users (id),
+    constraint fk_tasks_decision_by foreign key (decision_by_user_id) references users (id)
+);
+
+-- Sort keys accepted by sortBy (see TaskCursor): taskDateTime, createdAt, priority, status, id
+create index idx_tasks_task_date_time on tasks (task_date_time, id);
+create index idx_tasks_status_task_date_time on tasks (status, task_date_time, id);
+create index idx_tasks_created_at on tasks (created_at, id);
+create index idx_tasks_status_created_at on tasks (status, created_at, id);
+create index idx_tasks_priority on tasks (priority, id);
+create index idx_tasks_status_priority on tasks (status, priority, id);
+
+-- Inbox / outbox: a user's tasks (as assignee or as creator) by status, in calendar order
+create index idx_tasks_assigned_status_date on tasks (assigned_user_id, status, task_date_time);
+create index idx_tasks_created_by_status_date on tasks (created_by_user_id, status, task_date_time);
+
+-- Archive job: decided tasks by decision time
+create index idx_tasks_status_decision_at on tasks (status, decision_at);
+
+-- Foreign key lookups when a user row is deleted or checked
+create index idx_tasks_decision_by on tasks (decision_by_user_id);
+
+create table tasks_archive (
+    id                  bigint        not null,
+    version             bigint        not null,
+    title               varchar(255)  not null,
+    description         varchar(2000),
+    status              varchar(20)   not null,
+    priority            varchar(20)   not null,
+    task_date_time      timestamp(6)  not null,
+    assigned_user_id    bigint        not null,
+    created_by_user_id  bigint        not null,
+    created_at          timestamp(6),
+    updated_at          timestamp(6),
+    decision_at         timestamp(6),
+    decision_by_user_id bigint,
+    archived_at         timestamp(6)  not null,
+    primary key (id),
+    constraint fk_tasks_archive_assigned_user foreign key (assigned_user_id) references users (id),
+    constraint fk_tasks_archive_created_by foreign key (created_by_user_id) references users (id),
+    constraint fk_tasks_archive_decision_by foreign key (decision_by_user_id) references users (id)
+);
+
+-- Archive listing/export (?archived=true) takes the same sortBy: same index set. Rows are written once
+-- by the archive job and never updated, so these only cost at archive time.
+create index idx_tasks_archive_task_date_time on tasks_archive (task_date_time, id);
+create index idx_tasks_archive_status_task_date_time on tasks_archive (status, task_date_time, id);
+create index idx_tasks_archive_created_at on tasks_archive (created_at, id);
+create index idx_tasks_archive_status_created_at on tasks_archive (status, created_at, id);
+create index idx_tasks_archive_priority on tasks_archive (priority, id);
+create index idx_tasks_archive_status_priority on tasks_archive (status, priority, id);
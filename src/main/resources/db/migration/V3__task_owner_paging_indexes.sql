@@ -0,0 +1,9 @@
+-- GET /api/tasks/mine: one user's tasks, as assignee or as creator, keyset paged by (task_date_time, id).
+-- With id as the last column the page is read in index order and the scan stops after "limit" rows,
+-- with a status filter or without one (which needs the index without status).
+drop index idx_tasks_assigned_status_date;
+drop index idx_tasks_created_by_status_date;
+create index idx_tasks_assigned_status_date on tasks (assigned_user_id, status, task_date_time, id);
+create index idx_tasks_assigned_date on tasks (assigned_user_id, task_date_time, id);
+create index idx_tasks_created_by_status_date on tasks (created_by_user_id, status, task_date_time, id);
+create index idx_tasks_created_by_date on tasks (created_by_user_id, task_date_time, id);
@@ -0,0 +1,4 @@
+-- Optional length of a booking (see BookingIndex): a task occupies [task_date_time, + duration_minutes).
+-- Null keeps the old meaning, a booking of the one instant task_date_time. The archive mirrors tasks.
+alter table tasks add column duration_minutes integer;
+alter table tasks_archive add column duration_minutes integer;
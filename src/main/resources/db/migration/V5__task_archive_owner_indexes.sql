@@ -0,0 +1,4 @@
+-- A USER reading the archive (GET /api/tasks?archived=true, export) only gets rows assigned to or created by
+-- them: the ids come from one index seek per owner column, unioned, so neither side reads the whole table.
+create index idx_tasks_archive_assigned on tasks_archive (assigned_user_id);
+create index idx_tasks_archive_created_by on tasks_archive (created_by_user_id);
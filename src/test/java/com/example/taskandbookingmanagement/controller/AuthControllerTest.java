@@ -0,0 +1,69 @@
+package com.example.taskandbookingmanagement.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private String login(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andReturn().getResponse().getContentAsString();
+        return body.replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void login_thenBearerToken_shouldAuthenticateApiCalls() throws Exception {
+        // Arrange
+        String token = login("manager", "manager123");
+
+        // Act + Assert
+        mockMvc.perform(get("/api/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("manager"))
+                .andExpect(jsonPath("$.role").value("MANAGER"));
+    }
+
+    @Test
+    void login_withWrongPassword_shouldReturn401() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"manager\",\"password\":\"nope\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void api_withTamperedToken_orBasicByDefault_shouldReturn401() throws Exception {
+        // Arrange
+        String token = login("user", "user123");
+
+        // Act + Assert
+        mockMvc.perform(get("/api/me").header("Authorization", "Bearer " + token + "x"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/me").with(httpBasic("user", "user123")))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CborNegotiationTest {
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime WHEN = LocalDateTime.of(2098, 3, 1, 9, 30);
+    private static final String WINDOW = "/api/tasks?from=2098-01-01T00:00:00&to=2099-01-01T00:00:00&limit=200";
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CBORMapper cborMapper;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = bearer("admin", "admin123");
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private String bearer(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + body.replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    private MockHttpServletResponse fetch(String url, MediaType accept) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", token).accept(accept))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private void seedTasks(int count) throws Exception {
+        Long assigneeId = userRepository.findByUsername("user").orElseThrow().getId();
+        for (int i = 0; i < count; i++) {
+            // One minute apart: the assignee cannot be booked twice at the same time
+            mockMvc.perform(post("/api/tasks").header("Authorization", token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"Cbor " + i + "\",\"priority\":\"MEDIUM\",\"taskDateTime\":\""
+                                    + WHEN.plusMinutes(i) + "\",\"assignedUserId\":" + assigneeId + "}"))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void listTasks_withAcceptCbor_shouldReturnSmallerCbor_withEpochTimestamps() throws Exception {
+        // Arrange
+        seedTasks(20);
+
+        // Act
+        MockHttpServletResponse json = fetch(WINDOW, MediaType.APPLICATION_JSON);
+        MockHttpServletResponse cbor = fetch(WINDOW, CBOR);
+
+        // Assert
+        assertThat(cbor.getContentType()).startsWith("application/cbor");
+        assertThat(cbor.getHeader(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        assertThat(cbor.getHeader(HttpHeaders.ETAG)).isNotEqualTo(json.getHeader(HttpHeaders.ETAG));
+
+        JsonNode rows = cborMapper.readTree(cbor.getContentAsByteArray());
+        assertThat(rows.size()).isGreaterThanOrEqualTo(20);
+        JsonNode first = rows.get(0);
+        assertThat(first.get("taskDateTime").isIntegralNumber()).isTrue();
+        assertThat(first.get("taskDateTime").asLong()).isEqualTo(WHEN.toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(first.get("assignedUsername").asString()).isEqualTo("user");
+
+        // Repeated names and usernames are sent once: well under half the JSON size
+        assertThat(cbor.getContentAsByteArray().length).isLessThan(json.getContentAsByteArray().length / 2);
+    }
+
+    @Test
+    void listUsers_withAcceptCbor_shouldReturnCbor_andJsonStaysDefault() throws Exception {
+        // Act
+        MockHttpServletResponse cbor = fetch("/api/users", CBOR);
+        MockHttpServletResponse json = mockMvc.perform(get("/api/users").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        // Assert
+        assertThat(cbor.getContentType()).startsWith("application/cbor");
+        assertThat(cborMapper.readTree(cbor.getContentAsByteArray()).findValuesAsString("username"))
+                .contains("admin", "manager", "user");
+        assertThat(json.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+}
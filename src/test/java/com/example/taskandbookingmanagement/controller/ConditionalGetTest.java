@@ -0,0 +1,146 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.model.Role;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime WHEN = LocalDateTime.of(2097, 1, 1, 9, 0);
+    private static final String WINDOW = "?from=2097-01-01T00:00:00&to=2098-01-01T00:00:00";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    // Minutes after WHEN already booked for "user": the assignee cannot be booked twice at the same time
+    private static int booked;
+
+    private Statistics statistics;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        token = bearer("admin", "admin123");
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private String bearer(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + body.replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    private String etagOf(String url) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private void createTask(String title) throws Exception {
+        Long assigneeId = userRepository.findByUsername("user").orElseThrow().getId();
+        mockMvc.perform(post("/api/tasks").header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"priority\":\"LOW\",\"taskDateTime\":\""
+                                + WHEN.plusMinutes(booked++) + "\",\"assignedUserId\":" + assigneeId + "}"))
+                .andExpect(status().isOk());
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void listTasks_withCurrentEtag_shouldReturn304_withoutAnyStatement() throws Exception {
+        // Arrange
+        createTask("ETag first");
+        String etag = etagOf("/api/tasks" + WINDOW);
+        assertThat(etag).startsWith("\"").endsWith("\"");
+
+        // Act
+        statistics.clear();
+        mockMvc.perform(get("/api/tasks" + WINDOW).header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void listTasks_etag_shouldDependOnParameters_andChangeWithTasks() throws Exception {
+        // Arrange
+        String etag = etagOf("/api/tasks" + WINDOW);
+        assertThat(etagOf("/api/tasks" + WINDOW + "&status=PENDING")).isNotEqualTo(etag);
+        assertThat(etagOf("/api/tasks" + WINDOW + "&limit=1")).isNotEqualTo(etag);
+
+        // Act
+        createTask("ETag second");
+
+        // Assert: the old tag no longer matches and the full list comes back
+        String body = mockMvc.perform(get("/api/tasks" + WINDOW).header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body).contains("ETag second");
+        assertThat(etagOf("/api/tasks" + WINDOW)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void listUsers_shouldReturn304_untilAUserIsSaved() throws Exception {
+        // Arrange
+        String etag = etagOf("/api/users");
+
+        // Act + Assert: unchanged
+        statistics.clear();
+        mockMvc.perform(get("/api/users").header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // Act + Assert: a new user invalidates both lists
+        String tasksEtag = etagOf("/api/tasks" + WINDOW);
+        User u = new User();
+        u.setName("ETag User");
+        u.setUsername("etag-user-" + System.nanoTime());
+        u.setPasswordHash("x");
+        u.setRole(Role.USER);
+        userRepository.save(u);
+
+        mockMvc.perform(get("/api/users").header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        assertThat(etagOf("/api/tasks" + WINDOW)).isNotEqualTo(tasksEtag);
+    }
+}
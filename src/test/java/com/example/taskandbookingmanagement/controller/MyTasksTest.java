@@ -0,0 +1,214 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.service.InvalidTaskQueryException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/tasks/mine: only the caller's tasks, as assignee or creator, paged in taskDateTime order,
+ * with one SQL statement per page (the caller's id comes from the token, not from a user lookup).
+ * GET /api/tasks, search, export and stats give a USER the same tasks (either role); a MANAGER sees everybody's.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class MyTasksTest {
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime WHEN = LocalDateTime.of(2092, 3, 1, 9, 0);
+    private static final String WINDOW = "from=2092-01-01T00:00:00&to=2093-01-01T00:00:00";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JsonMapper jsonMapper;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private String user;
+    private String manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        user = bearer("user", "user123");
+        manager = bearer("manager", "manager123");
+
+        if (!titles(fetch(manager, "role=creator")).isEmpty()) {
+            return; // already seeded by a previous test in this context
+        }
+        // manager -> user: "Mine 1..3" (the second one approved); user -> manager: "Outbox";
+        // admin -> admin: "Errand", none of the user's business
+        Long userId = userRepository.findByUsername("user").orElseThrow().getId();
+        Long managerId = userRepository.findByUsername("manager").orElseThrow().getId();
+        Long adminId = userRepository.findByUsername("admin").orElseThrow().getId();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            ids.add(create(manager, "Mine " + i, i, userId));
+        }
+        create(user, "Outbox", 4, managerId);
+        create(bearer("admin", "admin123"), "Errand", 5, adminId);
+
+        mockMvc.perform(put("/api/tasks/" + ids.get(1) + "/approve").header("Authorization", manager)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"decision\":\"APPROVE\"}"))
+                .andExpect(status().isOk());
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private String bearer(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + body.replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    private Long create(String token, String title, int day, Long assigneeId) throws Exception {
+        String body = mockMvc.perform(post("/api/tasks").header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"priority\":\"LOW\",\"taskDateTime\":\""
+                                + WHEN.plusDays(day) + "\",\"assignedUserId\":" + assigneeId + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return jsonMapper.readTree(body).get("id").asLong();
+    }
+
+    private MockHttpServletResponse fetch(String token, String query) throws Exception {
+        return fetchUrl(token, "/api/tasks/mine?" + WINDOW + "&" + query);
+    }
+
+    private MockHttpServletResponse fetchUrl(String token, String url) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private List<String> titles(MockHttpServletResponse res) throws Exception {
+        List<String> titles = new ArrayList<>();
+        for (JsonNode row : jsonMapper.readTree(res.getContentAsString())) {
+            titles.add(row.get("title").asString());
+        }
+        return titles;
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void mine_asAssignee_shouldReturnOnlyCallersTasks_inDateOrder_pageByPage() throws Exception {
+        // Act
+        MockHttpServletResponse first = fetch(user, "limit=2");
+        String cursor = first.getHeader(TaskController.NEXT_CURSOR_HEADER);
+        MockHttpServletResponse second = fetch(user, "limit=2&after=" + cursor);
+
+        // Assert: "Outbox" was created by the user but is assigned to the manager
+        assertThat(titles(first)).containsExactly("Mine 1", "Mine 2");
+        assertThat(titles(second)).containsExactly("Mine 3");
+        assertThat(second.getHeader(TaskController.NEXT_CURSOR_HEADER)).isNull();
+        assertThat(titles(fetch(user, "role=assignee&sortDir=desc"))).containsExactly("Mine 3", "Mine 2", "Mine 1");
+    }
+
+    @Test
+    void mine_shouldFilterByRoleAndStatus() throws Exception {
+        // Act + Assert
+        assertThat(titles(fetch(user, "role=creator"))).containsExactly("Outbox");
+        assertThat(titles(fetch(manager, "role=creator"))).containsExactly("Mine 1", "Mine 2", "Mine 3");
+        assertThat(titles(fetch(manager, "role=assignee"))).containsExactly("Outbox");
+
+        assertThat(titles(fetch(user, "status=APPROVED"))).containsExactly("Mine 2");
+        assertThat(titles(fetch(user, "status=PENDING"))).containsExactly("Mine 1", "Mine 3");
+        assertThat(titles(fetch(manager, "role=creator&status=REJECTED"))).isEmpty();
+    }
+
+    @Test
+    void mine_shouldRunOneStatement_withoutLookingUpTheCaller() throws Exception {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        List<String> titles = titles(fetch(user, "status=PENDING"));
+
+        // Assert: the page query (users fetch-joined), no "select ... from users where username = ?"
+        assertThat(titles).containsExactly("Mine 1", "Mine 3");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listSearchAndExport_asUser_shouldOnlyReturnTasksAssignedToOrCreatedByThem() throws Exception {
+        // Act
+        MockHttpServletResponse asUser = fetchUrl(user, "/api/tasks?" + WINDOW);
+        MockHttpServletResponse asManager = fetchUrl(manager, "/api/tasks?" + WINDOW);
+
+        // Assert: list, with and without fields
+        assertThat(titles(asUser)).containsExactly("Mine 1", "Mine 2", "Mine 3", "Outbox");
+        assertThat(titles(fetchUrl(user, "/api/tasks?" + WINDOW + "&fields=title&sortBy=id&sortDir=desc")))
+                .containsExactly("Outbox", "Mine 3", "Mine 2", "Mine 1");
+        assertThat(titles(asManager)).contains("Errand");
+
+        // Same URL, different caller: the tags differ, so one caller's copy never revalidates for the other
+        assertThat(asUser.getHeader(HttpHeaders.ETAG)).isNotEqualTo(asManager.getHeader(HttpHeaders.ETAG));
+
+        // Assert: search and export
+        assertThat(titles(fetchUrl(user, "/api/tasks/search?q=errand"))).isEmpty();
+        assertThat(titles(fetchUrl(manager, "/api/tasks/search?q=errand"))).containsExactly("Errand");
+        assertThat(titles(fetchUrl(user, "/api/tasks/search?q=outbox"))).containsExactly("Outbox");
+
+        String csv = fetchUrl(user, "/api/tasks/export").getContentAsString();
+        assertThat(csv).contains(",Outbox,", ",Mine 1,").doesNotContain(",Errand,");
+        assertThat(fetchUrl(user, "/api/tasks/export?fields=title").getContentAsString())
+                .contains("\nOutbox\n").doesNotContain("\nErrand\n");
+    }
+
+    @Test
+    void stats_asUser_shouldOnlyCountTasksAssignedToOrCreatedByThem() throws Exception {
+        // Arrange: every task the user can export, one id per line after the header
+        long userTasks = fetchUrl(user, "/api/tasks/export?fields=id").getContentAsString().lines().count() - 1;
+        long approved = fetchUrl(user, "/api/tasks/export?fields=id&status=APPROVED").getContentAsString()
+                .lines().count() - 1;
+
+        // Act
+        JsonNode asUser = jsonMapper.readTree(fetchUrl(user, "/api/tasks/stats").getContentAsString());
+        JsonNode asManager = jsonMapper.readTree(fetchUrl(manager, "/api/tasks/stats").getContentAsString());
+
+        // Assert: "Errand" (admin -> admin) is counted for the manager only
+        assertThat(asUser.get("total").asLong()).isEqualTo(userTasks);
+        assertThat(asUser.get("byStatus").get("APPROVED").asLong()).isEqualTo(approved);
+        assertThat(asManager.get("total").asLong()).isGreaterThan(userTasks);
+    }
+
+    @Test
+    void mine_withUnknownRole_shouldReturn400() throws Exception {
+        // Act
+        Exception resolved = mockMvc.perform(get("/api/tasks/mine?role=approver").header("Authorization", user))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResolvedException();
+
+        // Assert
+        assertThat(resolved).isInstanceOf(InvalidTaskQueryException.class)
+                .hasMessage("Unsupported role: approver");
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.service.InvalidTaskQueryException;
+import com.example.taskandbookingmanagement.service.TaskFields;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ?fields= on list and export: only the requested properties come back, and the SQL (printed by show-sql)
+ * selects only their columns, joining users only for user names.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class SparseFieldsTest {
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime WHEN = LocalDateTime.of(2094, 5, 1, 8, 0);
+    private static final String WINDOW = "/api/tasks?from=2094-01-01T00:00:00&to=2095-01-01T00:00:00";
+    private static final int TASKS = 3;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JsonMapper jsonMapper;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = bearer("admin", "admin123");
+
+        JsonNode existing = jsonMapper.readTree(fetch(WINDOW + "&fields=id").getContentAsString());
+        if (existing.size() == TASKS) {
+            return; // already seeded by a previous test in this context
+        }
+        Long assigneeId = userRepository.findByUsername("user").orElseThrow().getId();
+        for (int i = 0; i < TASKS; i++) {
+            mockMvc.perform(post("/api/tasks").header("Authorization", token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"Sparse " + i + "\",\"description\":\"Long description " + i
+                                    + "\",\"priority\":\"LOW\",\"taskDateTime\":\"" + WHEN.plusHours(i)
+                                    + "\",\"assignedUserId\":" + assigneeId + "}"))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private String bearer(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + body.replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    private MockHttpServletResponse fetch(String url) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private static int occurrences(String text, String word) {
+        return text.split("\\b" + word + "\\b", -1).length - 1;
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void listTasks_withFields_shouldSelectOnlyThoseColumns_andPageWithCursor(CapturedOutput output) throws Exception {
+        // Act
+        int mark = output.getOut().length();
+        MockHttpServletResponse first = fetch(WINDOW + "&fields=title,id,status&limit=2");
+        String sql = output.getOut().substring(mark);
+        String cursor = first.getHeader(TaskController.NEXT_CURSOR_HEADER);
+        MockHttpServletResponse second = fetch(WINDOW + "&fields=title,id,status&limit=2&after=" + cursor);
+
+        // Assert
+        List<String> titles = new ArrayList<>();
+        for (MockHttpServletResponse res : List.of(first, second)) {
+            for (JsonNode row : jsonMapper.readTree(res.getContentAsString())) {
+                assertThat(row.propertyNames()).containsExactly("id", "title", "status");
+                titles.add(row.get("title").asString());
+            }
+        }
+        assertThat(titles).containsExactly("Sparse 0", "Sparse 1", "Sparse 2");
+        assertThat(second.getHeader(TaskController.NEXT_CURSOR_HEADER)).isNull();
+
+        assertThat(sql).contains("title").doesNotContain("description");
+        assertThat(occurrences(sql, "join")).isZero();
+    }
+
+    @Test
+    void listTasks_withUserNameField_shouldJoinOnlyThatUser(CapturedOutput output) throws Exception {
+        // Act
+        int mark = output.getOut().length();
+        JsonNode rows = jsonMapper.readTree(fetch(WINDOW + "&fields=id,assignedUserId,assignedUsername")
+                .getContentAsString());
+        String sql = output.getOut().substring(mark);
+
+        // Assert
+        assertThat(rows.size()).isEqualTo(TASKS);
+        assertThat(rows.get(0).propertyNames()).containsExactly("id", "assignedUserId", "assignedUsername");
+        assertThat(rows.get(0).get("assignedUsername").asString()).isEqualTo("user");
+        assertThat(occurrences(sql, "join")).isEqualTo(1);
+    }
+
+    @Test
+    void exportCsv_withFields_shouldWriteOnlyThoseColumns() throws Exception {
+        // Act
+        String csv = fetch("/api/tasks/export?status=PENDING&fields=title,id").getContentAsString();
+
+        // Assert
+        String[] lines = csv.split("\n");
+        assertThat(lines[0]).isEqualTo("id,title");
+        assertThat(lines).filteredOn(l -> l.contains("Sparse "))
+                .hasSize(TASKS)
+                .allSatisfy(l -> assertThat(l).matches("\\d+,Sparse \\d"));
+    }
+
+    @Test
+    void listAndExport_withInvalidQuery_shouldReturn400() throws Exception {
+        // Arrange: a cursor issued for the default sort
+        String cursor = fetch(WINDOW + "&limit=1").getHeader(TaskController.NEXT_CURSOR_HEADER);
+
+        // Act + Assert: with and without fields, as both go through the same whitelist and cursor; unknown
+        // or no field names in fields
+        for (String url : List.of(WINDOW + "&sortBy=title", WINDOW + "&fields=id&sortBy=title",
+                "/api/tasks/export?sortBy=updatedAt", "/api/tasks?from=2094-01-01T00:00:00&to=2094-01-01T00:00:00",
+                WINDOW + "&after=not-a-cursor", WINDOW + "&fields=id&after=not-a-cursor",
+                WINDOW + "&sortBy=id&after=" + cursor,
+                WINDOW + "&fields=id,passwordHash", WINDOW + "&fields=,", "/api/tasks/export?fields=bogus")) {
+            mockMvc.perform(get(url).header("Authorization", token))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void parse_shouldKeepResponseOrder_andRejectUnknownFields() {
+        // Act + Assert
+        assertThat(TaskFields.parse(" status,id ,id")).containsExactly("id", "status");
+        assertThat(TaskFields.parse(null)).isNull();
+        assertThatThrownBy(() -> TaskFields.parse("id,passwordHash"))
+                .isInstanceOf(InvalidTaskQueryException.class)
+                .hasMessageContaining("passwordHash");
+        assertThatThrownBy(() -> TaskFields.parse(" , "))
+                .isInstanceOf(InvalidTaskQueryException.class);
+    }
+}
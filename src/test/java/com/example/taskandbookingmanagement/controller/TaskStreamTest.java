@@ -0,0 +1,107 @@
+package com.example.taskandbookingmanagement.controller;
+
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskStreamTest {
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime WHEN = LocalDateTime.of(2096, 1, 1, 9, 0);
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private String bearer(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + body.replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    private MockHttpServletResponse openStream(String token) throws Exception {
+        return mockMvc.perform(get("/api/tasks/stream").header("Authorization", token))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private long createTask(String token, String title, String assignee) throws Exception {
+        Long assigneeId = userRepository.findByUsername(assignee).orElseThrow().getId();
+        String body = mockMvc.perform(post("/api/tasks").header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"priority\":\"LOW\",\"taskDateTime\":\"" + WHEN
+                                + "\",\"assignedUserId\":" + assigneeId + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return Long.parseLong(body.replaceAll(".*\"id\":(\\d+).*", "$1"));
+    }
+
+    // Frames are written by the sender pool, not the request thread
+    private String awaitContent(MockHttpServletResponse stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = stream.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = stream.getContentAsString();
+        }
+        return content;
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void stream_shouldPushDeltas_filteredBySubscriber() throws Exception {
+        // Arrange
+        String admin = bearer("admin", "admin123");
+        String manager = bearer("manager", "manager123");
+        MockHttpServletResponse userStream = openStream(bearer("user", "user123"));
+        MockHttpServletResponse managerStream = openStream(manager);
+
+        // Act
+        createTask(admin, "Stream not for user", "admin");
+        long mine = createTask(admin, "Stream for user", "user");
+        mockMvc.perform(put("/api/tasks/" + mine + "/approve").header("Authorization", manager)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"decision\":\"APPROVE\"}"))
+                .andExpect(status().isOk());
+
+        // Assert
+        assertThat(userStream.getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+
+        String seenByUser = awaitContent(userStream, "\"status\":\"APPROVED\"");
+        assertThat(seenByUser).startsWith(":ready");
+        assertThat(seenByUser).contains("event:created", "Stream for user", "event:decided", "\"taskId\":" + mine);
+        assertThat(seenByUser).doesNotContain("Stream not for user");
+
+        String seenByManager = awaitContent(managerStream, "\"status\":\"APPROVED\"");
+        assertThat(seenByManager).contains("Stream not for user", "Stream for user", "event:decided");
+    }
+
+    @Test
+    void stream_withoutLogin_shouldReturn401() throws Exception {
+        mockMvc.perform(get("/api/tasks/stream"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.taskandbookingmanagement.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsEndpointTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private String login(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + body.replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void apiCall_shouldRecordStatementCount_andTaskTimer_forAdmins() throws Exception {
+        // Arrange
+        String admin = login("admin", "admin123");
+
+        // Act
+        mockMvc.perform(get("/api/tasks").header("Authorization", admin))
+                .andExpect(status().isOk());
+
+        // Assert
+        mockMvc.perform(get("/actuator/metrics/jdbc.statements")
+                        .param("tag", "uri:/api/tasks")
+                        .header("Authorization", admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'TOTAL')].value",
+                        hasItem(greaterThanOrEqualTo(1.0))));
+
+        mockMvc.perform(get("/actuator/metrics/tasks.operation")
+                        .param("tag", "operation:page")
+                        .header("Authorization", admin))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void actuator_shouldHideMetricsFromNonAdmins_butKeepHealthPublic() throws Exception {
+        String manager = login("manager", "manager123");
+
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", manager))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
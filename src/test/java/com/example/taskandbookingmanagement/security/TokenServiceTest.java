@@ -0,0 +1,86 @@
+package com.example.taskandbookingmanagement.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-21T10:00:00Z");
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private static byte[] key(int fill) {
+        byte[] k = new byte[32];
+        Arrays.fill(k, (byte) fill);
+        return k;
+    }
+
+    private static TokenService at(Instant now, byte[] key) {
+        return new TokenService(key, Duration.ofMinutes(15), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void issue_thenVerify_shouldReturnUserIdUsernameRoleAndExpiry() {
+        // Arrange
+        TokenService tokens = at(NOW, key(1));
+
+        // Act
+        TokenService.IssuedToken issued = tokens.issue(7L, "manager", "MANAGER");
+        var claims = tokens.verify(issued.getToken());
+
+        // Assert
+        assertThat(issued.getExpiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getUserId()).isEqualTo(7L);
+        assertThat(claims.get().getUsername()).isEqualTo("manager");
+        assertThat(claims.get().getRole()).isEqualTo("MANAGER");
+    }
+
+    @Test
+    void verify_shouldRejectExpiredToken() {
+        // Arrange
+        String token = at(NOW, key(1)).issue(3L, "user", "USER").getToken();
+
+        // Act + Assert
+        assertThat(at(NOW.plus(Duration.ofMinutes(15)), key(1)).verify(token)).isEmpty();
+        assertThat(at(NOW.plus(Duration.ofMinutes(14)), key(1)).verify(token)).isPresent();
+    }
+
+    @Test
+    void verify_shouldRejectTamperedPayload_andForeignKey() {
+        // Arrange
+        TokenService tokens = at(NOW, key(1));
+        String token = tokens.issue(3L, "user", "USER").getToken();
+        String signature = token.substring(token.indexOf('.'));
+
+        long expiry = NOW.plus(Duration.ofMinutes(15)).getEpochSecond();
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("3|user|ADMIN|" + expiry).getBytes());
+
+        // Act + Assert
+        assertThat(tokens.verify(forgedPayload + signature)).isEmpty();
+        assertThat(at(NOW, key(2)).verify(token)).isEmpty();
+        assertThat(tokens.verify("garbage")).isEmpty();
+        assertThat(tokens.verify("a.b")).isEmpty();
+    }
+
+    @Test
+    void constructor_shouldRejectShortKey() {
+        assertThatThrownBy(() -> new TokenService(new byte[16], Duration.ofMinutes(1), Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("256 bits");
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskCreateRequest;
+import com.example.taskandbookingmanagement.dto.TaskDecisionRequest;
+import com.example.taskandbookingmanagement.dto.TaskResponse;
+import com.example.taskandbookingmanagement.model.Priority;
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * createTask against BookingIndex: an assignee booked at a time is not booked again, the refused task is
+ * never inserted, a rejection frees the slot, and bookings written before the index was loaded count too.
+ */
+// Own context (own BookingIndex), so no user's bookings are in memory before a test loads them
+@SpringBootTest(properties = "app.tasks.booking.max-users=50")
+class BookingConflictTest {
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime WHEN = LocalDateTime.of(2099, 4, 1, 10, 0);
+    private static final LocalDateTime FROM = LocalDateTime.of(2099, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+    @Autowired private TaskService taskService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = userRepository.findByUsername("manager").orElseThrow();
+        AuthenticatedUser principal = new AuthenticatedUser(manager.getId(), "manager", "", true,
+                List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private TaskResponse createTask(String title, String assignee, LocalDateTime at, Integer durationMinutes) {
+        TaskCreateRequest req = new TaskCreateRequest();
+        req.setTitle(title);
+        req.setTaskDateTime(at);
+        req.setDurationMinutes(durationMinutes);
+        req.setPriority(Priority.LOW);
+        req.setAssignedUserId(userRepository.findByUsername(assignee).orElseThrow().getId());
+        return taskService.createTask(req);
+    }
+
+    private List<String> titlesInYear() {
+        return taskService.listTasksPage(null, FROM, TO, null, null, null, 100).getItems().stream()
+                .map(TaskResponse::getTitle).toList();
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void createTask_atAnInstantAlreadyBooked_shouldBeRefused_untilTheFirstIsRejected() {
+        // Arrange
+        TaskResponse first = createTask("Booked first", "user", WHEN, null);
+
+        // Act + Assert: 409, and the refused task was rolled back
+        assertThatThrownBy(() -> createTask("Booked twice", "user", WHEN, null))
+                .isInstanceOf(TaskConflictException.class)
+                .hasMessage("Assigned user is already booked at that time (task " + first.getId() + ")");
+        assertThat(titlesInYear()).contains("Booked first").doesNotContain("Booked twice");
+
+        // Act: a rejected task no longer holds its slot
+        taskService.decide(first.getId(), TaskDecisionRequest.Decision.REJECT);
+        TaskResponse second = createTask("Booked after rejection", "user", WHEN, null);
+
+        // Assert
+        assertThat(second.getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(titlesInYear()).contains("Booked after rejection");
+    }
+
+    @Test
+    void createTask_withDuration_shouldBlockItsWholeSlot_forThatAssigneeOnly() {
+        // Arrange: 14:00-15:00
+        LocalDateTime two = WHEN.withHour(14);
+        TaskResponse meeting = createTask("Long meeting", "user", two, 60);
+        assertThat(meeting.getDurationMinutes()).isEqualTo(60);
+
+        // Act + Assert
+        assertThatThrownBy(() -> createTask("Overlaps the end", "user", two.plusMinutes(30), 60))
+                .isInstanceOf(TaskConflictException.class);
+        assertThatThrownBy(() -> createTask("Covers it", "user", two.minusMinutes(30), 120))
+                .isInstanceOf(TaskConflictException.class);
+
+        assertThat(createTask("Right after", "user", two.plusHours(1), 30).getId()).isNotNull();
+        assertThat(createTask("Someone else", "manager", two, 60).getId()).isNotNull();
+    }
+
+    @Test
+    void createTask_shouldSeeBookingsCommittedBeforeTheIndexLoadedThem() {
+        // Arrange: a task inserted without going through createTask
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        Task t = new Task();
+        t.setTitle("Written directly");
+        t.setTaskDateTime(WHEN.withHour(16));
+        t.setDurationMinutes(45);
+        t.setPriority(Priority.HIGH);
+        t.setAssignedUser(admin);
+        t.setCreatedBy(manager);
+        t.setStatus(TaskStatus.APPROVED);
+        Long id = taskRepository.save(t).getId();
+
+        // Act + Assert: read from the database on first use of admin's bookings
+        assertThatThrownBy(() -> createTask("Clashes with it", "admin", WHEN.withHour(16).plusMinutes(15), null))
+                .isInstanceOf(TaskConflictException.class)
+                .hasMessageContaining("(task " + id + ")");
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingIndexTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2026, 5, 4, 9, 0);
+
+    @Mock private TaskRepository taskRepository;
+
+    private BookingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookingIndex(taskRepository, 100);
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private Task task(Long id, Long userId, LocalDateTime at, Integer durationMinutes) {
+        User u = new User();
+        ReflectionTestUtils.setField(u, "id", userId);
+        Task t = new Task();
+        ReflectionTestUtils.setField(t, "id", id);
+        t.setAssignedUser(u);
+        t.setTaskDateTime(at);
+        t.setDurationMinutes(durationMinutes);
+        return t;
+    }
+
+    private TaskRepository.BookingRow row(Long id, LocalDateTime at, Integer durationMinutes) {
+        return new TaskRepository.BookingRow() {
+            public Long getId() { return id; }
+            public LocalDateTime getTaskDateTime() { return at; }
+            public Integer getDurationMinutes() { return durationMinutes; }
+        };
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void book_shouldRejectTheSameInstant_andStartsInsideALongerBooking() {
+        // Arrange
+        index.book(task(1L, 7L, NINE, null));
+        index.book(task(2L, 7L, NINE.plusHours(1), 60));
+
+        // Act + Assert
+        assertThatThrownBy(() -> index.book(task(3L, 7L, NINE, 15)))
+                .isInstanceOf(TaskConflictException.class)
+                .hasMessage("Assigned user is already booked at that time (task 1)");
+        assertThatThrownBy(() -> index.book(task(4L, 7L, NINE.plusMinutes(90), null)))
+                .hasMessage("Assigned user is already booked at that time (task 2)");
+        assertThatThrownBy(() -> index.book(task(5L, 7L, NINE.plusMinutes(30), 45)))
+                .hasMessage("Assigned user is already booked at that time (task 2)");
+    }
+
+    @Test
+    void book_shouldAcceptAdjacentSlots_andOtherUsers() {
+        // Arrange: 10:00-11:00
+        index.book(task(1L, 7L, NINE.plusHours(1), 60));
+
+        // Act + Assert: ends as it starts, starts as it ends, same time for someone else
+        assertThatCode(() -> {
+            index.book(task(2L, 7L, NINE, 60));
+            index.book(task(3L, 7L, NINE.plusHours(2), null));
+            index.book(task(4L, 8L, NINE.plusHours(1), 60));
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void book_shouldReadAUsersBookingsOnce_fromTheRepository() {
+        // Arrange
+        when(taskRepository.findBookings(eq(7L), any())).thenReturn(List.of(row(1L, NINE, 30)));
+
+        // Act
+        assertThatThrownBy(() -> index.book(task(2L, 7L, NINE.plusMinutes(10), null)))
+                .isInstanceOf(TaskConflictException.class);
+        index.book(task(3L, 7L, NINE.plusMinutes(30), null));
+
+        // Assert
+        verify(taskRepository, times(1)).findBookings(7L, BookingIndex.BOOKED);
+        assertThat(index.loadedUsers()).isEqualTo(1);
+    }
+
+    @Test
+    void released_shouldFreeTheSlot_andIgnoreUsersNotInMemory() {
+        // Arrange
+        index.book(task(1L, 7L, NINE, 60));
+
+        // Act
+        index.released(7L, 1L);
+        index.released(8L, 5L);
+
+        // Assert
+        assertThatCode(() -> index.book(task(2L, 7L, NINE, 60))).doesNotThrowAnyException();
+        assertThat(index.loadedUsers()).isEqualTo(1);
+    }
+
+    @Test
+    void book_insideTransaction_shouldGiveTheSlotBack_onRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            index.book(task(1L, 7L, NINE, null));
+
+            // Assert: held until the transaction ends, then dropped
+            assertThatThrownBy(() -> index.book(task(2L, 7L, NINE, null))).isInstanceOf(TaskConflictException.class);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThatCode(() -> index.book(task(3L, 7L, NINE, null))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void added_insideTransaction_shouldBookOnlyAfterCommit() {
+        // Arrange: user 7 in memory
+        index.book(task(1L, 7L, NINE, null));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            index.added(task(2L, 7L, NINE.plusHours(1), 30));
+
+            // Assert
+            assertThatCode(() -> index.book(task(3L, 7L, NINE.plusHours(1), null))).doesNotThrowAnyException();
+            index.released(7L, 3L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThatThrownBy(() -> index.book(task(4L, 7L, NINE.plusMinutes(70), null)))
+                .hasMessage("Assigned user is already booked at that time (task 2)");
+    }
+
+    @Test
+    void book_shouldDropTheLeastRecentlyUsedUser_beyondMaxUsers() {
+        // Arrange
+        index = new BookingIndex(taskRepository, 2);
+
+        // Act
+        index.book(task(1L, 7L, NINE, null));
+        index.book(task(2L, 8L, NINE, null));
+        index.book(task(3L, 9L, NINE, null));
+
+        // Assert: user 7 is read from the repository again (which returns nothing here)
+        assertThat(index.loadedUsers()).isEqualTo(2);
+        assertThatCode(() -> index.book(task(4L, 7L, NINE, null))).doesNotThrowAnyException();
+        verify(taskRepository, times(2)).findBookings(7L, BookingIndex.BOOKED);
+    }
+
+    @Test
+    void intervalTree_shouldFindAnOverlap_exactlyWhenOneExists() {
+        // Random inserts and removals, checked against every interval after each step
+        BookingIndex.IntervalTree tree = new BookingIndex.IntervalTree();
+        Map<Long, long[]> live = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (long id = 1; id <= 3000; id++) {
+            if (!ids.isEmpty() && random.nextInt(3) == 0) {
+                Long gone = ids.remove(random.nextInt(ids.size()));
+                tree.remove(gone, live.remove(gone)[0]);
+            }
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(random.nextBoolean() ? 5 : 300);
+            tree.insert(id, start, end);
+            live.put(id, new long[]{start, end});
+            ids.add(id);
+
+            long qs = random.nextInt(10_000);
+            long qe = qs + 1 + random.nextInt(50);
+            Long found = tree.findOverlap(qs, qe);
+            boolean expected = live.values().stream().anyMatch(i -> i[0] < qe && qs < i[1]);
+
+            assertThat(found != null).as("overlap with [%d, %d)", qs, qe).isEqualTo(expected);
+            if (found != null) {
+                long[] hit = live.get(found);
+                assertThat(hit[0] < qe && qs < hit[1]).isTrue();
+            }
+        }
+        assertThat(tree.size()).isEqualTo(live.size());
+    }
+}
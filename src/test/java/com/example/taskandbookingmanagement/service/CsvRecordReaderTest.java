@@ -0,0 +1,51 @@
+package com.example.taskandbookingmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void next_shouldHandleQuotes_embeddedNewlines_andCrLf() throws Exception {
+        // Arrange
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "title,description\r\n"
+                        + "\"Fix \"\"login\"\", again\",\"line one\nline two\"\r\n"
+                        + "plain,\n"));
+
+        // Act + Assert
+        assertThat(reader.next()).containsExactly("title", "description");
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+
+        assertThat(reader.next()).containsExactly("Fix \"login\", again", "line one\nline two");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+
+        assertThat(reader.next()).containsExactly("plain", "");
+        assertThat(reader.getRecordLine()).isEqualTo(4);
+
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void next_shouldReturnLastRecord_withoutTrailingNewline() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\nc,d"));
+
+        assertThat(reader.next()).isEqualTo(List.of("a", "b"));
+        assertThat(reader.next()).isEqualTo(List.of("c", "d"));
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void next_shouldRejectUnterminatedQuote() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"open,field\n"));
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unterminated");
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationDispatcherTest {
+
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) dispatcher.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private Notification notification(long taskId) {
+        User u = new User();
+        ReflectionTestUtils.setField(u, "id", 1L);
+        u.setUsername("assignee");
+
+        Task t = new Task();
+        ReflectionTestUtils.setField(t, "id", taskId);
+        t.setTitle("Task " + taskId);
+        t.setStatus(TaskStatus.PENDING);
+        t.setPriority(Priority.LOW);
+        t.setTaskDateTime(LocalDateTime.of(2026, 1, 21, 10, 0));
+        t.setAssignedUser(u);
+        t.setCreatedBy(u);
+
+        return new Notification("assignee", "TASK_CREATED", t, "msg");
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void dispatch_shouldDeliverOffCallerThread_inBatches() throws Exception {
+        // Arrange
+        List<List<Long>> batches = Collections.synchronizedList(new ArrayList<>());
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(10);
+
+        dispatcher = new NotificationDispatcher(1, 100, 4, NotificationDispatcher.OverflowPolicy.BLOCK,
+                Duration.ofSeconds(5), batch -> {
+            awaitQuietly(release);
+            threads.add(Thread.currentThread().getName());
+            batches.add(batch.stream().map(Notification::getTaskId).toList());
+            batch.forEach(n -> delivered.countDown());
+        });
+
+        // Act
+        for (long i = 1; i <= 10; i++) dispatcher.dispatch(notification(i));
+        release.countDown();
+
+        // Assert
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).allSatisfy(name -> assertThat(name).isNotEqualTo(Thread.currentThread().getName()));
+        assertThat(batches).allSatisfy(b -> assertThat(b).hasSizeLessThanOrEqualTo(4));
+        assertThat(batches.stream().flatMap(List::stream).toList())
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(batches.size()).isLessThan(10); // some events were batched together
+    }
+
+    @Test
+    void dispatch_drop_shouldDiscardAndCount_whenQueueIsFull() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+        dispatcher = new NotificationDispatcher(1, 2, 1, NotificationDispatcher.OverflowPolicy.DROP,
+                Duration.ofSeconds(5), batch -> {
+            awaitQuietly(release);
+            batch.forEach(n -> sent.add(n.getTaskId()));
+        });
+
+        // Act: worker holds one, queue holds two, the rest overflows
+        for (long i = 1; i <= 10; i++) dispatcher.dispatch(notification(i));
+        release.countDown();
+        dispatcher.shutdown();
+
+        // Assert
+        assertThat(dispatcher.getDroppedCount()).isGreaterThanOrEqualTo(7);
+        assertThat(sent.size() + dispatcher.getDroppedCount()).isEqualTo(10);
+    }
+
+    @Test
+    void dispatch_callerRuns_shouldSendOnCallerThread_whenQueueIsFull() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        String caller = Thread.currentThread().getName();
+        dispatcher = new NotificationDispatcher(1, 1, 1, NotificationDispatcher.OverflowPolicy.CALLER_RUNS,
+                Duration.ofSeconds(5), batch -> {
+            if (!Thread.currentThread().getName().equals(caller)) awaitQuietly(release);
+            threads.add(Thread.currentThread().getName());
+        });
+
+        // Act
+        for (long i = 1; i <= 5; i++) dispatcher.dispatch(notification(i));
+        release.countDown();
+        dispatcher.shutdown();
+
+        // Assert
+        assertThat(threads).hasSize(5);
+        assertThat(threads).contains(caller);
+        assertThat(dispatcher.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void dispatch_insideTransaction_shouldWaitForCommit() {
+        // Arrange
+        List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+        dispatcher = new NotificationDispatcher(0, 10, 10, NotificationDispatcher.OverflowPolicy.BLOCK,
+                Duration.ZERO, batch -> batch.forEach(n -> sent.add(n.getTaskId())));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        dispatcher.dispatch(notification(1));
+
+        // Assert
+        assertThat(sent).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(sent).containsExactly(1L);
+    }
+
+    @Test
+    void dispatch_insideRolledBackTransaction_shouldNeverSend() {
+        // Arrange
+        List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+        dispatcher = new NotificationDispatcher(0, 10, 10, NotificationDispatcher.OverflowPolicy.BLOCK,
+                Duration.ZERO, batch -> batch.forEach(n -> sent.add(n.getTaskId())));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        dispatcher.dispatch(notification(1));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void shutdown_shouldFlushPendingEvents() {
+        // Arrange
+        List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+        dispatcher = new NotificationDispatcher(2, 1000, 50, NotificationDispatcher.OverflowPolicy.BLOCK,
+                Duration.ofSeconds(5), batch -> batch.forEach(n -> sent.add(n.getTaskId())));
+
+        // Act
+        for (long i = 1; i <= 500; i++) dispatcher.dispatch(notification(i));
+        dispatcher.shutdown();
+
+        // Assert
+        assertThat(sent).hasSize(500);
+        assertThat(dispatcher.getQueueSize()).isZero();
+    }
+
+    @Test
+    void bindTo_shouldTimeEachBatch_andCountDrops() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dispatcher = new NotificationDispatcher(0, 10, 10, NotificationDispatcher.OverflowPolicy.DROP,
+                Duration.ZERO, batch -> {
+            if (batch.get(0).getTaskId() == 2L) throw new IllegalStateException("smtp down");
+        });
+        dispatcher.bindTo(registry);
+
+        // Act
+        dispatcher.dispatch(notification(1));
+        dispatcher.dispatch(notification(2));
+
+        // Assert
+        assertThat(registry.get("notifications.send").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("notifications.send").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get("notifications.batch.size").summary().totalAmount()).isEqualTo(2.0);
+        assertThat(registry.get("notifications.dropped").functionCounter().count()).isZero();
+        assertThat(registry.get("notifications.queue.size").gauge().value()).isZero();
+    }
+
+    // -----------------------
+    // Utility
+    // -----------------------
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskCreateRequest;
+import com.example.taskandbookingmanagement.dto.TaskDecisionRequest;
+import com.example.taskandbookingmanagement.dto.TaskResponse;
+import com.example.taskandbookingmanagement.dto.TaskStatsResponse;
+import com.example.taskandbookingmanagement.model.Priority;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Second-level and query cache (hibernate-cache.conf): repeated reads are answered without SQL, and
+ * createTask/decide drop exactly what they made stale, so no read ever returns an old status or count.
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime WHEN = LocalDateTime.of(2089, 6, 1, 10, 0);
+
+    @Autowired private TaskService taskService;
+    @Autowired private TaskStatsService taskStatsService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private MeterRegistry meterRegistry;
+
+    // Minutes after WHEN already booked for "user": the assignee cannot be booked twice at the same time
+    private static int booked;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.findByUsername("user").orElseThrow();
+
+        User manager = userRepository.findByUsername("manager").orElseThrow();
+        AuthenticatedUser principal = new AuthenticatedUser(manager.getId(), "manager", "", true,
+                List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private TaskResponse createTask(String title) {
+        TaskCreateRequest req = new TaskCreateRequest();
+        req.setTitle(title);
+        req.setTaskDateTime(WHEN.plusMinutes(booked++));
+        req.setPriority(Priority.LOW);
+        req.setAssignedUserId(user.getId());
+        return taskService.createTask(req);
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return statistics.getCacheRegionStatistics(name);
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void counts_shouldComeFromQueryCache_untilCreateTaskWritesATask() {
+        // Arrange
+        createTask("Cached counts first");
+        TaskStatsResponse before = taskStatsService.getStats();
+        statistics.clear();
+
+        // Act + Assert: the repeat costs no SQL, both grouped counts come from the query cache
+        TaskStatsResponse again = taskStatsService.getStats();
+        assertThat(again.getByStatus()).isEqualTo(before.getByStatus());
+        assertThat(again.getByPriority()).isEqualTo(before.getByPriority());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(region(TaskRepository.QUERY_CACHE_REGION).getHitCount()).isEqualTo(2);
+
+        // Act
+        createTask("Cached counts second");
+        statistics.clear();
+        TaskStatsResponse after = taskStatsService.getStats();
+
+        // Assert: the cached results were dropped, the counts are re-read and include the new task
+        assertThat(region(TaskRepository.QUERY_CACHE_REGION).getHitCount()).isZero();
+        assertThat(after.getByStatus().get(TaskStatus.PENDING))
+                .isEqualTo(before.getByStatus().get(TaskStatus.PENDING) + 1);
+        assertThat(after.getTotal()).isEqualTo(before.getTotal() + 1);
+    }
+
+    @Test
+    void decide_shouldEvictTheTask_andDropCachedCounts() {
+        // Arrange: task and counts are both cached
+        Long id = createTask("Cached decision").getId();
+        assertThat(taskRepository.findById(id)).isPresent();
+        TaskStatsResponse before = taskStatsService.getStats();
+
+        statistics.clear();
+        assertThat(taskRepository.findById(id).orElseThrow().getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(taskStatsService.getStats().getByStatus()).isEqualTo(before.getByStatus());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // Act
+        taskService.decide(id, TaskDecisionRequest.Decision.APPROVE);
+        statistics.clear();
+
+        // Assert: every read goes back to the database and sees the decision
+        assertThat(taskRepository.findById(id).orElseThrow().getStatus()).isEqualTo(TaskStatus.APPROVED);
+        TaskStatsResponse after = taskStatsService.getStats();
+        assertThat(after.getByStatus().get(TaskStatus.APPROVED))
+                .isEqualTo(before.getByStatus().get(TaskStatus.APPROVED) + 1);
+        assertThat(after.getByStatus().get(TaskStatus.PENDING))
+                .isEqualTo(before.getByStatus().get(TaskStatus.PENDING) - 1);
+
+        assertThat(region("tasks").getHitCount()).isZero();
+        assertThat(region(TaskRepository.QUERY_CACHE_REGION).getHitCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3); // task, two counts
+    }
+
+    @Test
+    void users_shouldStayCached_acrossTaskWritesAndArchiveCopies() {
+        // Arrange
+        userRepository.findById(user.getId()).orElseThrow();
+        createTask("Cached users");
+        transactionTemplate.executeWithoutResult(tx -> {
+            taskRepository.copyToArchive(List.of(-1L), LocalDateTime.now()); // declares tasks_archive only
+            tx.setRollbackOnly();
+        });
+        statistics.clear();
+
+        // Act
+        User cached = userRepository.findById(user.getId()).orElseThrow();
+
+        // Assert
+        assertThat(cached.getUsername()).isEqualTo("user");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(region("users").getHitCount()).isEqualTo(1);
+
+        assertThat(meterRegistry.get("hibernate.cache.requests").tag("region", "users").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hibernate.cache.hit.ratio").tag("region", "users").gauge().value())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskFieldsPage;
+import com.example.taskandbookingmanagement.dto.TaskPage;
+import com.example.taskandbookingmanagement.dto.TaskResponse;
+import com.example.taskandbookingmanagement.model.*;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archiving on the real schema: old decided tasks move to tasks_archive in batches, everything else stays,
+ * and listing/export only see archived rows when asked to.
+ */
+@SpringBootTest(properties = {
+        "app.tasks.archive.enabled=false", // no scheduled run in the middle of the test
+        "app.tasks.archive.batch-size=2",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskArchiveServiceTest {
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime FROM = LocalDateTime.of(2090, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2091, 1, 1, 0, 0);
+    // Decided long before any other test's tasks, so only this test's rows are old enough
+    private static final LocalDateTime DECIDED_LONG_AGO = LocalDateTime.of(2000, 1, 1, 12, 0);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2001, 1, 1, 0, 0);
+
+    @Autowired private TaskArchiveService taskArchiveService;
+    @Autowired private TaskService taskService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private Task save(String title, TaskStatus status, LocalDateTime decisionAt, User user, int day) {
+        Task t = new Task();
+        t.setTitle(title);
+        t.setDescription("Archived description " + title);
+        t.setTaskDateTime(FROM.plusDays(day));
+        t.setStatus(status);
+        t.setAssignedUser(user);
+        t.setCreatedBy(user);
+        t.setDecisionBy(decisionAt == null ? null : user);
+        t.setDecisionAt(decisionAt);
+        return taskRepository.save(t);
+    }
+
+    private List<String> titles(List<Map<String, Object>> rows) {
+        return rows.stream().map(r -> (String) r.get("title")).toList();
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void archiveDecidedBefore_shouldMoveOnlyOldDecidedTasks_inBatches_andReadThemOnlyWhenAsked() {
+        // Arrange: 5 old decided tasks (batch size 2), plus a recent decision and a pending task that stay
+        User user = userRepository.findByUsername("user").orElseThrow();
+        List<Long> oldIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            TaskStatus status = (i % 2 == 0) ? TaskStatus.APPROVED : TaskStatus.REJECTED;
+            oldIds.add(save("Old " + i, status, DECIDED_LONG_AGO, user, i).getId());
+        }
+        Long recent = save("Recent", TaskStatus.APPROVED, LocalDateTime.now(), user, 10).getId();
+        Long pending = save("Pending", TaskStatus.PENDING, null, user, 11).getId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        int moved = taskArchiveService.archiveDecidedBefore(CUTOFF);
+
+        // Assert: one transaction per batch (2 + 2 + 1)
+        assertThat(moved).isEqualTo(5);
+        assertThat(statistics.getSuccessfulTransactionCount()).isEqualTo(3);
+        assertThat(taskRepository.findAllById(oldIds)).isEmpty();
+        assertThat(taskRepository.findAllById(List.of(recent, pending))).hasSize(2);
+
+        TaskPage current = taskService.listTasksPage(null, FROM, TO, null, null, null, null);
+        assertThat(current.getItems()).extracting(TaskResponse::getTitle).containsExactly("Recent", "Pending");
+
+        TaskFieldsPage archived = taskService.listTaskFieldsPage(null, FROM, TO, null, null, null, 3,
+                TaskFields.all(), true);
+        assertThat(titles(archived.getItems())).containsExactly("Old 0", "Old 1", "Old 2");
+        Map<String, Object> first = archived.getItems().get(0);
+        assertThat(first.get("id")).isEqualTo(oldIds.get(0));
+        assertThat(first.get("status")).isEqualTo(TaskStatus.APPROVED);
+        assertThat(first.get("assignedUsername")).isEqualTo("user");
+        assertThat(first.get("decisionAt")).isEqualTo(DECIDED_LONG_AGO);
+
+        TaskFieldsPage rest = taskService.listTaskFieldsPage(null, FROM, TO, null, null,
+                archived.getNextCursor(), 3, List.of("id", "title"), true);
+        assertThat(titles(rest.getItems())).containsExactly("Old 3", "Old 4");
+        assertThat(rest.getNextCursor()).isNull();
+
+        Map<Long, String> exported = new HashMap<>();
+        taskService.exportTaskFields(TaskStatus.REJECTED, null, null, List.of("id", "title"), true,
+                r -> exported.put((Long) r.get("id"), (String) r.get("title")));
+        assertThat(exported).containsEntry(oldIds.get(1), "Old 1").containsEntry(oldIds.get(3), "Old 3");
+
+        // A second run finds nothing left to move
+        assertThat(taskArchiveService.archiveDecidedBefore(CUTOFF)).isZero();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskDecisionRequest;
+import com.example.taskandbookingmanagement.dto.TaskResponse;
+import com.example.taskandbookingmanagement.model.*;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Many managers deciding the same task at once: exactly one wins, everyone else gets
+ * TaskConflictException, and the stored row matches the winner's decision.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskDecisionContentionTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime WHEN = LocalDateTime.of(2095, 1, 1, 9, 0);
+
+    @Autowired private TaskService taskService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private MockMvc mockMvc;
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private Long pendingTask(String title) {
+        User manager = userRepository.findByUsername("manager").orElseThrow();
+        Task t = new Task();
+        t.setTitle(title);
+        t.setTaskDateTime(WHEN);
+        t.setAssignedUser(manager);
+        t.setCreatedBy(manager);
+        return taskRepository.save(t).getId();
+    }
+
+    private String bearer(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + body.replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+    }
+
+    private void loginAs(String username, Role role) {
+        User u = userRepository.findByUsername(username).orElseThrow();
+        var principal = new AuthenticatedUser(u.getId(), username, "", true,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void decide_underContention_shouldLetExactlyOneCallerWin() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Long id = pendingTask("Contended " + round);
+                CyclicBarrier start = new CyclicBarrier(THREADS);
+
+                List<Future<TaskResponse>> calls = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    boolean asManager = i % 2 == 0;
+                    TaskDecisionRequest.Decision decision = (i % 4 < 2)
+                            ? TaskDecisionRequest.Decision.APPROVE
+                            : TaskDecisionRequest.Decision.REJECT;
+                    calls.add(pool.submit(() -> {
+                        if (asManager) loginAs("manager", Role.MANAGER); else loginAs("admin", Role.ADMIN);
+                        try {
+                            start.await(10, TimeUnit.SECONDS);
+                            return taskService.decide(id, decision);
+                        } finally {
+                            SecurityContextHolder.clearContext();
+                        }
+                    }));
+                }
+
+                List<TaskResponse> winners = new ArrayList<>();
+                int conflicts = 0;
+                for (Future<TaskResponse> call : calls) {
+                    try {
+                        winners.add(call.get(30, TimeUnit.SECONDS));
+                    } catch (ExecutionException e) {
+                        assertThat(e.getCause()).isInstanceOf(TaskConflictException.class);
+                        conflicts++;
+                    }
+                }
+
+                assertThat(winners).as("round %d", round).hasSize(1);
+                assertThat(conflicts).isEqualTo(THREADS - 1);
+
+                TaskResponse winner = winners.get(0);
+                Task stored = taskRepository.findById(id).orElseThrow();
+                assertThat(stored.getStatus()).isEqualTo(winner.getStatus());
+                assertThat(stored.getVersion()).isEqualTo(1L).isEqualTo(winner.getVersion());
+                assertThat(stored.getDecisionAt()).isEqualTo(winner.getDecisionAt());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void approveEndpoint_shouldReturn409_forAlreadyDecidedOrStaleVersion() throws Exception {
+        // Arrange
+        Long decided = pendingTask("Decided over HTTP");
+        Long stale = pendingTask("Stale version over HTTP");
+        String manager = bearer("manager", "manager123");
+        String admin = bearer("admin", "admin123");
+
+        mockMvc.perform(put("/api/tasks/" + decided + "/approve").header("Authorization", manager)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"decision\":\"APPROVE\",\"version\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // Act + Assert
+        mockMvc.perform(put("/api/tasks/" + decided + "/approve").header("Authorization", admin)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"decision\":\"REJECT\"}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(put("/api/tasks/" + stale + "/approve").header("Authorization", manager)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"decision\":\"REJECT\",\"version\":7}"))
+                .andExpect(status().isConflict());
+
+        assertThat(taskRepository.findById(decided).orElseThrow().getStatus()).isEqualTo(TaskStatus.APPROVED);
+        assertThat(taskRepository.findById(stale).orElseThrow().getStatus()).isEqualTo(TaskStatus.PENDING);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskEvent;
+import com.example.taskandbookingmanagement.model.Role;
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs with a sender executor that only collects work, so buffers fill up exactly as they would
+ * behind a client that stopped reading.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskEventBroadcasterTest {
+
+    private static final int BUFFER = 3;
+
+    @Mock private UserRepository userRepository;
+
+    private final List<Runnable> pendingSends = new ArrayList<>();
+    private TaskEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        UserDirectory directory = new UserDirectory(userRepository, 100, Duration.ofMinutes(5));
+        broadcaster = new TaskEventBroadcaster(directory, JsonMapper.builder().build(), BUFFER,
+                Duration.ZERO, Duration.ofMinutes(1), pendingSends::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        broadcaster.shutdown();
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private User user(Long id, String username, Role role) {
+        User u = new User();
+        ReflectionTestUtils.setField(u, "id", id);
+        u.setUsername(username);
+        u.setRole(role);
+        return u;
+    }
+
+    private void subscribeAs(User u) {
+        when(userRepository.findById(u.getId())).thenReturn(Optional.of(u));
+        var principal = new AuthenticatedUser(u.getId(), u.getUsername(), "", true, List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        broadcaster.subscribe();
+    }
+
+    private TaskEvent createdFor(User assignee) {
+        Task t = new Task();
+        ReflectionTestUtils.setField(t, "id", 1L);
+        t.setTitle("T");
+        t.setStatus(TaskStatus.PENDING);
+        t.setAssignedUser(assignee);
+        t.setCreatedBy(assignee);
+        return TaskEvent.created(t);
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void slowSubscriber_shouldBeDropped_onceItsBufferIsFull() {
+        // Arrange: "ready" takes one slot
+        User manager = user(1L, "manager", Role.MANAGER);
+        subscribeAs(manager);
+
+        // Act
+        for (int i = 0; i < BUFFER; i++) {
+            broadcaster.publish(createdFor(manager));
+        }
+
+        // Assert: publishing never waited on the client, and one drain was scheduled, not one per event
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        assertThat(broadcaster.getDroppedCount()).isEqualTo(1);
+        assertThat(pendingSends).hasSize(1);
+    }
+
+    @Test
+    void userSubscriber_shouldOnlyReceiveOwnTasks_andRefreshes() {
+        // Arrange
+        User me = user(2L, "user", Role.USER);
+        User other = user(3L, "other", Role.USER);
+        subscribeAs(me);
+
+        // Act: events for someone else never reach the buffer
+        for (int i = 0; i < 10; i++) {
+            broadcaster.publish(createdFor(other));
+        }
+        broadcaster.publish(createdFor(me));
+
+        broadcaster.publish(TaskEvent.refresh());
+
+        // Assert: ready + own task + refresh exactly fill the buffer
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        assertThat(broadcaster.getDroppedCount()).isZero();
+
+        broadcaster.publish(createdFor(me));
+        assertThat(broadcaster.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_insideTransaction_shouldWaitForCommit() {
+        User manager = user(1L, "manager", Role.MANAGER);
+        subscribeAs(manager);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (int i = 0; i < BUFFER; i++) {
+                broadcaster.publish(createdFor(manager));
+            }
+            assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(broadcaster.getDroppedCount()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
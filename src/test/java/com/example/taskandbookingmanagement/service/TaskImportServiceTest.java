@@ -0,0 +1,128 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskImportResponse;
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Imports run against the real schema: batching only shows up in the statement counts of a real session.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.tasks.import.batch-size=100"
+})
+class TaskImportServiceTest {
+
+    // Imported rows for this test live in their own year so other tests do not see them
+    private static final LocalDateTime BASE = LocalDateTime.of(2093, 1, 1, 9, 0);
+
+    @Autowired private TaskImportService taskImportService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TaskSearchIndex taskSearchIndex;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User manager = userRepository.findByUsername("manager").orElseThrow();
+        var principal = new AuthenticatedUser(manager.getId(), "manager", "", true,
+                List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private long countImported(String titlePrefix) {
+        return taskRepository.count((root, query, cb) -> cb.like(root.get("title"), titlePrefix + "%"));
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void importCsv_shouldBatchInserts_andStayFarBelowOneStatementPerRow() {
+        // Arrange
+        int rows = 1000;
+        StringBuilder csv = new StringBuilder("title,description,priority,taskDateTime,assignedUsername\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("Bulk ").append(i).append(",\"line, with comma\",HIGH,")
+                    .append(BASE.plusMinutes(i)).append(",user\n");
+        }
+        statistics.clear();
+
+        // Act
+        TaskImportResponse report = taskImportService.importTasks(
+                TaskImportService.Format.CSV, new StringReader(csv.toString()));
+
+        // Assert
+        assertThat(report.getImported()).isEqualTo(rows);
+        assertThat(report.getFailed()).isZero();
+        assertThat(countImported("Bulk ")).isEqualTo(rows);
+
+        // 10 batches of 100 + a sequence call per 50 ids, instead of 1000 single INSERTs
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+    }
+
+    @Test
+    void importNdjson_shouldReportBadRows_byLine_andImportTheRest() {
+        // Arrange
+        String ndjson = String.join("\n",
+                "{\"title\":\"Nd ok\",\"priority\":\"LOW\",\"taskDateTime\":\"" + BASE + "\",\"assignedUsername\":\"user\"}",
+                "",
+                "{\"title\":\"Nd ghost\",\"priority\":\"LOW\",\"taskDateTime\":\"" + BASE + "\",\"assignedUsername\":\"ghost\"}",
+                "{\"title\":\"Nd bad prio\",\"priority\":\"URGENT\",\"taskDateTime\":\"" + BASE + "\",\"assignedUsername\":\"user\"}",
+                "not json",
+                "{\"title\":\"Nd by id\",\"priority\":\"MEDIUM\",\"taskDateTime\":\"" + BASE + "\",\"assignedUserId\":"
+                        + userRepository.findByUsername("admin").orElseThrow().getId() + "}");
+
+        // Act
+        TaskImportResponse report = taskImportService.importTasks(
+                TaskImportService.Format.NDJSON, new StringReader(ndjson));
+
+        // Assert
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(3);
+        assertThat(report.getErrors()).extracting(TaskImportResponse.RowError::getLine).containsExactly(3L, 4L, 5L);
+        assertThat(report.getErrors()).extracting(TaskImportResponse.RowError::getMessage)
+                .containsExactly("Assigned user not found", "Invalid priority: URGENT", "Invalid JSON");
+
+        Task byId = taskRepository.findAll().stream()
+                .filter(t -> t.getTitle().equals("Nd by id")).findFirst().orElseThrow();
+        assertThat(byId.getStatus().name()).isEqualTo("PENDING");
+
+        // Committed batches are searchable straight away
+        assertThat(taskSearchIndex.search("nd by id", null, 10)).containsExactly(byId.getId());
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every query the task endpoints and jobs run, EXPLAINed by H2 against the Flyway schema:
+ * none of them may read "tasks" or "tasks_archive" with a full table scan.
+ * A query shape (or sort key) without a matching index in db/migration fails here.
+ */
+@SpringBootTest(properties = "app.tasks.archive.enabled=false")
+class TaskQueryPlanTest {
+
+    private static final List<String> SORT_KEYS = List.of("taskDateTime", "createdAt", "priority", "status", "id");
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 2, 1, 0, 0);
+    private static final Pattern TASK_TABLE_SCAN = Pattern.compile("PUBLIC\\.TASKS(_ARCHIVE)?\\.tableScan");
+
+    @Autowired private TaskService taskService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET QUERY_STATISTICS_MAX_ENTRIES 1000");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+
+    // Statement -> H2 plan, for the statements on task tables run by "action"
+    private Map<String, String> plansOf(Runnable action) {
+        jdbcTemplate.execute("SET QUERY_STATISTICS TRUE");
+        List<String> statements;
+        try {
+            action.run();
+            // Must be read while statistics are on: turning them off clears the table
+            statements = jdbcTemplate.queryForList(
+                    "select SQL_STATEMENT from INFORMATION_SCHEMA.QUERY_STATISTICS", String.class);
+        } finally {
+            jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+        }
+
+        Map<String, String> plans = new LinkedHashMap<>();
+        for (String sql : statements) {
+            String lower = sql.toLowerCase();
+            if (lower.contains("information_schema") || !lower.contains("tasks")) continue;
+            plans.put(sql, explain(sql));
+        }
+        return plans;
+    }
+
+    // Plan with every parameter bound to null: the plan depends on the predicates, not the values
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= ps.getParameterMetaData().getParameterCount(); i++) {
+                    ps.setObject(i, null);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        });
+    }
+
+    private void assertNoTableScan(Runnable action) {
+        Map<String, String> plans = plansOf(action);
+
+        assertThat(plans).as("statements on task tables").isNotEmpty();
+        // Scans of "users" (a handful of rows, joined for names) are fine
+        assertThat(plans.entrySet()).filteredOn(e -> TASK_TABLE_SCAN.matcher(e.getValue()).find())
+                .as("statements scanning a whole task table").extracting(Map.Entry::getKey).isEmpty();
+    }
+
+    // Runs the writes and rolls them back, so only their plans are kept
+    private void rolledBack(Runnable writes) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            writes.run();
+            tx.setRollbackOnly();
+        });
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void listingPagingAndExport_shouldUseAnIndex_forEverySortKey() {
+        List<String> fields = List.of("id", "title", "assignedUsername");
+
+        for (String key : SORT_KEYS) {
+            for (String dir : List.of("asc", "desc")) {
+                for (TaskStatus status : new TaskStatus[]{null, TaskStatus.PENDING}) {
+                    assertNoTableScan(() -> taskService.exportTasks(status, key, dir, r -> { }));
+                    assertNoTableScan(() -> taskService.exportTaskFields(status, key, dir, fields, true, r -> { }));
+                    assertNoTableScan(() -> taskService.listTasksPage(status, null, null, key, dir, null, 20));
+                    assertNoTableScan(() -> taskService.listTaskFieldsPage(status, null, null, key, dir, null, 20,
+                            fields, false));
+                    assertNoTableScan(() -> taskService.listTaskFieldsPage(status, null, null, key, dir, null, 20,
+                            fields, true));
+                }
+            }
+        }
+        // Date window (the default sort)
+        assertNoTableScan(() -> taskService.listTasksPage(null, FROM, TO, null, null, null, 20));
+        assertNoTableScan(() -> taskService.listTasksPage(TaskStatus.APPROVED, FROM, TO, null, null, null, 20));
+    }
+
+    @Test
+    void listingAndExport_asUser_shouldSeekTheOwnerIndexes_forEverySortKey() {
+        // A USER gets only their own tasks: ids from the assignee and creator indexes, rows by primary key
+        User user = userRepository.findByUsername("user").orElseThrow();
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getUsername(), "", true,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        List<String> fields = List.of("id", "title");
+        try {
+            for (String key : SORT_KEYS) {
+                for (TaskStatus status : new TaskStatus[]{null, TaskStatus.PENDING}) {
+                    assertNoTableScan(() -> taskService.listTasksPage(status, null, null, key, "asc", null, 20));
+                    assertNoTableScan(() -> taskService.exportTasks(status, key, "desc", r -> { }));
+                    assertNoTableScan(() -> taskService.exportTaskFields(status, key, "asc", fields, true, r -> { }));
+                    assertNoTableScan(() -> taskService.listTasksPage(status, FROM, TO, key, "desc", null, 20));
+                    assertNoTableScan(() -> taskService.listTaskFieldsPage(status, null, null, key, "asc", null, 20,
+                            fields, false));
+                    assertNoTableScan(() -> taskService.listTaskFieldsPage(status, null, null, key, "asc", null, 20,
+                            fields, true));
+                }
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void myTasks_shouldUseAnOwnerIndex() {
+        // listMyTasksPage takes the caller's id from the principal
+        User user = userRepository.findByUsername("user").orElseThrow();
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getUsername(), "", true, List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        try {
+            for (String role : List.of("assignee", "creator")) {
+                for (TaskStatus status : new TaskStatus[]{null, TaskStatus.PENDING}) {
+                    assertNoTableScan(() -> taskService.listMyTasksPage(role, status, null, null, "asc", null, 20));
+                    assertNoTableScan(() -> taskService.listMyTasksPage(role, status, FROM, TO, "desc", null, 20));
+                }
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void lookupsDecisionsAndArchiving_shouldUseAnIndex() {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        List<Long> ids = List.of(1L, 2L, 3L);
+        LocalDateTime at = LocalDateTime.now();
+
+        assertNoTableScan(() -> taskRepository.findByIdIn(ids));
+        assertNoTableScan(() -> taskRepository.findWithUsersById(1L));
+        assertNoTableScan(() -> taskRepository.findDecided(ids, TaskStatus.APPROVED, admin, at));
+        assertNoTableScan(() -> taskRepository.findArchivable(
+                List.of(TaskStatus.APPROVED, TaskStatus.REJECTED), at, Limit.of(500)));
+        assertNoTableScan(() -> rolledBack(() -> {
+            taskRepository.transitionAll(ids, TaskStatus.PENDING, TaskStatus.APPROVED, admin, at);
+            taskRepository.compareAndSetStatus(1L, TaskStatus.PENDING, 0, TaskStatus.REJECTED, admin, at);
+            taskRepository.copyToArchive(List.of(-1L), at);
+            taskRepository.deleteByIds(List.of(-1L));
+        }));
+    }
+
+    @Test
+    void bookingLoad_shouldUseTheAssigneeIndex() {
+        assertNoTableScan(() -> taskRepository.findBookings(1L, BookingIndex.BOOKED));
+    }
+
+    @Test
+    void dashboardCounts_shouldReadAnIndex_notTheTable() {
+        assertNoTableScan(taskRepository::countGroupedByStatus);
+        assertNoTableScan(taskRepository::countGroupedByPriority);
+    }
+
+    @Test
+    void searchIndexRebuild_readsTheWholeTable() {
+        // The in-memory search index is rebuilt from every row, so reading the whole table is the point
+        Map<String, String> plans = plansOf(() -> transactionTemplate.executeWithoutResult(tx -> {
+            try (Stream<TaskRepository.SearchRow> rows = taskRepository.streamSearchRows()) {
+                rows.forEach(r -> { });
+            }
+        }));
+
+        assertThat(new ArrayList<>(plans.values())).singleElement().asString().contains("TASKS.tableScan");
+    }
+}
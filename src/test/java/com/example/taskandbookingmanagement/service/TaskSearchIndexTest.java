@@ -0,0 +1,137 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.Task;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexTest {
+
+    @Mock private TaskRepository taskRepository;
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex(taskRepository);
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private Task task(Long id, String title, String description) {
+        Task t = new Task();
+        ReflectionTestUtils.setField(t, "id", id);
+        t.setTitle(title);
+        t.setDescription(description);
+        t.setStatus(TaskStatus.PENDING);
+        return t;
+    }
+
+    private TaskRepository.SearchRow row(Long id, String title, TaskStatus status) {
+        return new TaskRepository.SearchRow() {
+            public Long getId() { return id; }
+            public String getTitle() { return title; }
+            public String getDescription() { return null; }
+            public TaskStatus getStatus() { return status; }
+            public Long getAssignedUserId() { return null; }
+            public Long getCreatedById() { return null; }
+        };
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void tokenize_shouldLowercase_stripAccents_andDropShortTokens() {
+        assertThat(TaskSearchIndex.tokenize("Café déjà-vu: a Q3 RÉSUMÉ, x"))
+                .containsExactly("cafe", "deja", "vu", "q3", "resume");
+    }
+
+    @Test
+    void search_shouldMatchPrefixes_andRequireEveryTerm() {
+        // Arrange
+        index.index(task(1L, "Design review", "slides for the board"));
+        index.index(task(2L, "Design sprint", null));
+
+        // Act + Assert
+        assertThat(index.search("des", null, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("design rev", null, 10)).containsExactly(1L);
+        assertThat(index.search("design board", null, 10)).containsExactly(1L);
+        assertThat(index.search("design budget", null, 10)).isEmpty();
+    }
+
+    @Test
+    void search_shouldRankTitleOverDescription_andExactOverPrefix() {
+        // Arrange
+        index.index(task(1L, "Notes", "invoice"));
+        index.index(task(2L, "Invoice", null));
+        index.index(task(3L, "Invoices batch", null));
+
+        // Act + Assert: exact title, prefix title (0.5 x 3 > 1), exact description
+        assertThat(index.search("invoice", null, 10)).containsExactly(2L, 3L, 1L);
+        assertThat(index.search("invoice", null, 2)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void statusChanged_andReindex_shouldBeVisibleToSearch() {
+        // Arrange
+        index.index(task(1L, "Laptop order", null));
+        index.index(task(2L, "Laptop repair", null));
+
+        // Act
+        index.statusChanged(1L, TaskStatus.APPROVED);
+        index.index(task(2L, "Phone repair", null)); // new text replaces the old tokens
+
+        // Assert
+        assertThat(index.search("laptop", TaskStatus.APPROVED, 10)).containsExactly(1L);
+        assertThat(index.search("laptop", TaskStatus.PENDING, 10)).isEmpty();
+        assertThat(index.search("phone", null, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void index_insideTransaction_shouldApplyOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            index.index(task(1L, "Committed later", null));
+
+            // Assert
+            assertThat(index.search("committed", null, 10)).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(index.search("committed", null, 10)).containsExactly(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuild_shouldReplaceContentWithDatabaseRows() {
+        // Arrange
+        index.index(task(9L, "Deleted meanwhile", null));
+        when(taskRepository.streamSearchRows()).thenReturn(Stream.of(
+                row(1L, "Server migration", TaskStatus.PENDING),
+                row(2L, "Server patching", TaskStatus.REJECTED)));
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("deleted", null, 10)).isEmpty();
+        assertThat(index.search("server", TaskStatus.REJECTED, 10)).containsExactly(2L);
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskBulkDecisionResponse;
+import com.example.taskandbookingmanagement.dto.TaskDecisionRequest;
+import com.example.taskandbookingmanagement.dto.TaskPage;
+import com.example.taskandbookingmanagement.model.*;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1: listing or exporting tasks must cost the same number of SQL statements
+ * whatever the number of rows, even when every task points at different users.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskServiceQueryCountTest {
+
+    // Tasks for this test live in their own year so rows from other tests do not interfere
+    private static final LocalDateTime FROM = LocalDateTime.of(2091, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2092, 1, 1, 0, 0);
+    private static final int TASKS = 30;
+
+    @Autowired private TaskService taskService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        if (taskRepository.count(
+                (root, query, cb) -> cb.between(root.get("taskDateTime"), FROM, TO)) > 0) {
+            return; // already seeded by a previous test in this context
+        }
+
+        // Each task gets its own assignee, creator and decider, the worst case for lazy loading
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < TASKS * 3; i++) {
+            User u = new User();
+            u.setName("Query Count " + i);
+            u.setUsername("qc-user-" + i);
+            u.setPasswordHash("x");
+            u.setRole(Role.USER);
+            users.add(userRepository.save(u));
+        }
+
+        for (int i = 0; i < TASKS; i++) {
+            Task t = new Task();
+            t.setTitle("QC " + i);
+            t.setTaskDateTime(FROM.plusDays(i));
+            t.setStatus(TaskStatus.APPROVED);
+            t.setAssignedUser(users.get(i * 3));
+            t.setCreatedBy(users.get(i * 3 + 1));
+            t.setDecisionBy(users.get(i * 3 + 2));
+            t.setDecisionAt(FROM);
+            taskRepository.save(t);
+        }
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private long statementsFor(Runnable action) {
+        return transactionTemplate.execute(tx -> {
+            entityManager.clear(); // nothing cached from earlier work
+            statistics.clear();
+            action.run();
+            return statistics.getPrepareStatementCount();
+        });
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void listTasksPage_shouldUseOneStatement_whateverThePageSize() {
+        // Act
+        List<TaskPage> pages = new ArrayList<>();
+        long small = statementsFor(() ->
+                pages.add(taskService.listTasksPage(TaskStatus.APPROVED, FROM, TO, null, null, null, 2)));
+        long large = statementsFor(() ->
+                pages.add(taskService.listTasksPage(TaskStatus.APPROVED, FROM, TO, null, null, null, TASKS)));
+
+        // Assert
+        assertThat(pages.get(0).getItems()).hasSize(2);
+        assertThat(pages.get(1).getItems()).hasSize(TASKS);
+        assertThat(pages.get(1).getItems()).allSatisfy(r -> {
+            assertThat(r.getAssignedUsername()).startsWith("qc-user-");
+            assertThat(r.getCreatedByUsername()).startsWith("qc-user-");
+            assertThat(r.getDecisionByUsername()).startsWith("qc-user-");
+        });
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(1);
+    }
+
+    @Test
+    void decideAll_shouldUseOneUpdate_andReportOnlyPendingRows() {
+        // Arrange: three fresh PENDING tasks, one of them already decided
+        User manager = userRepository.findByUsername("manager").orElseThrow();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Task t = new Task();
+            t.setTitle("Bulk decide " + i);
+            t.setTaskDateTime(TO.plusYears(1).plusDays(i));
+            t.setAssignedUser(manager);
+            t.setCreatedBy(manager);
+            ids.add(taskRepository.save(t).getId());
+        }
+        Task decided = taskRepository.findById(ids.get(1)).orElseThrow();
+        decided.setStatus(TaskStatus.REJECTED);
+        taskRepository.save(decided);
+
+        var principal = new AuthenticatedUser(manager.getId(), "manager", "", true,
+                List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+
+        // Act
+        List<TaskBulkDecisionResponse> result = new ArrayList<>();
+        long statements;
+        try {
+            statements = statementsFor(() -> result.add(
+                    taskService.decideAll(ids, TaskDecisionRequest.Decision.APPROVE)));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        // Assert: the UPDATE plus the SELECT of the rows it changed (user lookup is cached)
+        assertThat(result.get(0).getTransitioned()).containsExactly(ids.get(0), ids.get(2));
+        assertThat(result.get(0).getSkipped()).containsExactly(ids.get(1));
+        assertThat(statements).isLessThanOrEqualTo(3);
+        assertThat(taskRepository.findById(ids.get(0)).orElseThrow().getStatus()).isEqualTo(TaskStatus.APPROVED);
+        assertThat(taskRepository.findById(ids.get(1)).orElseThrow().getStatus()).isEqualTo(TaskStatus.REJECTED);
+    }
+
+    @Test
+    void exportTasks_shouldUseOneStatement_forAllRows() {
+        // Act
+        List<String> deciders = new ArrayList<>();
+        long statements = statementsFor(() ->
+                taskService.exportTasks(TaskStatus.APPROVED, null, null, r -> {
+                    if (r.getTaskDateTime().isBefore(TO) && !r.getTaskDateTime().isBefore(FROM)) {
+                        deciders.add(r.getDecisionByUsername());
+                    }
+                }));
+
+        // Assert
+        assertThat(deciders).hasSize(TASKS);
+        assertThat(deciders).allSatisfy(u -> assertThat(u).startsWith("qc-user-"));
+        assertThat(statements).isEqualTo(1);
+    }
+}
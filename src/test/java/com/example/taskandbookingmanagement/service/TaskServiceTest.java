@@ -2,23 +2,34 @@ package com.example.taskandbookingmanagement.service;
 
 import com.example.taskandbookingmanagement.dto.TaskCreateRequest;
 import com.example.taskandbookingmanagement.dto.TaskDecisionRequest;
+import com.example.taskandbookingmanagement.dto.TaskPage;
 import com.example.taskandbookingmanagement.dto.TaskResponse;
+import com.example.taskandbookingmanagement.metrics.TaskMetrics;
 import com.example.taskandbookingmanagement.model.*;
 import com.example.taskandbookingmanagement.repository.TaskRepository;
 import com.example.taskandbookingmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor.SpecificationFluentQuery;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,12 +41,28 @@ class TaskServiceTest {
     @Mock private TaskRepository taskRepository;
     @Mock private UserRepository userRepository;
     @Mock private NotificationService notificationService;
+    @Mock private TaskStatsService taskStatsService;
+    @Mock private EntityManager entityManager;
+    @Mock private TaskEventBroadcaster taskEventBroadcaster;
 
     private TaskService taskService;
+    private TaskSearchIndex taskSearchIndex;
+    private BookingIndex bookingIndex;
+    private DataVersion dataVersion;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        taskService = new TaskService(taskRepository, userRepository, notificationService);
+        // Real directory over the mocked repository: lookups still end up in userRepository
+        UserDirectory userDirectory = new UserDirectory(userRepository, 100, Duration.ofMinutes(5));
+        meterRegistry = new SimpleMeterRegistry();
+        // Real index too: without a transaction it applies changes immediately
+        taskSearchIndex = new TaskSearchIndex(taskRepository);
+        dataVersion = new DataVersion();
+        // And a real booking index: an empty tree per user (findBookings returns nothing)
+        bookingIndex = new BookingIndex(taskRepository, 100);
+        taskService = new TaskService(taskRepository, userDirectory, notificationService, taskStatsService, entityManager,
+                new TaskMetrics(meterRegistry), taskSearchIndex, bookingIndex, taskEventBroadcaster, dataVersion);
     }
 
     @AfterEach
@@ -119,6 +146,10 @@ class TaskServiceTest {
         assertThat(toSave.getStatus()).isEqualTo(TaskStatus.PENDING);
 
         verify(notificationService).notifyTaskCreated(saved);
+        verify(taskEventBroadcaster).publish(argThat(e -> e.getType().equals("created") && e.getTaskId() == 99L
+                && e.getAssignedUserId() == 20L));
+        verify(taskStatsService).onTaskCreated(TaskStatus.PENDING, Priority.HIGH);
+        assertThat(dataVersion.getTasks()).isEqualTo(1L);
 
         assertThat(resp.getId()).isEqualTo(99L);
         assertThat(resp.getStatus()).isEqualTo(TaskStatus.PENDING);
@@ -126,6 +157,8 @@ class TaskServiceTest {
         assertThat(resp.getAssignedUsername()).isEqualTo("assignee");
         assertThat(resp.getCreatedByUserId()).isEqualTo(10L);
         assertThat(resp.getCreatedByUsername()).isEqualTo("creator");
+
+        assertThat(taskSearchIndex.search("d1", null, 10)).containsExactly(99L);
     }
 
     @Test
@@ -170,56 +203,220 @@ class TaskServiceTest {
     }
 
     // -----------------------
-    // listTasks tests
+    // listTasksPage tests
     // -----------------------
+    // Each scroll returns the next window, the last one repeatedly
+    private SpecificationFluentQuery<Task> mockPagedQuery(List<Window<Task>> windows) {
+        @SuppressWarnings("unchecked")
+        SpecificationFluentQuery<Task> q = mock(SpecificationFluentQuery.class, RETURNS_SELF);
+        when(q.scroll(any(ScrollPosition.class))).thenAnswer(AdditionalAnswers.returnsElementsOf(windows));
+        when(taskRepository.findBy(ArgumentMatchers.<Specification<Task>>any(),
+                ArgumentMatchers.<Function<? super SpecificationFluentQuery<Task>, Object>>any()))
+                .thenAnswer(inv -> inv.<Function<SpecificationFluentQuery<Task>, ?>>getArgument(1).apply(q));
+        return q;
+    }
+
     @Test
-    void listTasks_whenStatusNull_shouldFindAll_withDefaultSort() {
+    void listTasksPage_firstPage_shouldUseKeysetWithIdTieBreaker_andReturnNextCursor() {
         // Arrange
         Task t1 = taskWithId(1L);
-        t1.setTitle("A");
         t1.setStatus(TaskStatus.PENDING);
-        t1.setPriority(Priority.LOW); // change if your enum differs
         t1.setTaskDateTime(LocalDateTime.of(2026, 1, 21, 10, 0));
         t1.setAssignedUser(user(2L, "assignee", Role.USER));
         t1.setCreatedBy(user(3L, "creator", Role.USER));
 
-        when(taskRepository.findAll(any(Sort.class))).thenReturn(List.of(t1));
+        SpecificationFluentQuery<Task> q = mockPagedQuery(
+                List.of(Window.from(List.of(t1), i -> ScrollPosition.keyset(), true)));
 
         // Act
-        List<TaskResponse> res = taskService.listTasks(null, null, null);
+        TaskPage page = taskService.listTasksPage(TaskStatus.PENDING, null, null, null, "desc", null, 1);
 
         // Assert
+        ArgumentCaptor<ScrollPosition> posCaptor = ArgumentCaptor.forClass(ScrollPosition.class);
         ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
-        verify(taskRepository).findAll(sortCaptor.capture());
+        verify(q).sortBy(sortCaptor.capture());
+        verify(q).limit(1);
+        verify(q).scroll(posCaptor.capture());
+
+        assertThat(posCaptor.getValue().isInitial()).isTrue();
+        assertThat(sortCaptor.getValue().toList()).extracting(Sort.Order::getProperty)
+                .containsExactly("taskDateTime", "id");
+        assertThat(sortCaptor.getValue().getOrderFor("id").getDirection()).isEqualTo(Sort.Direction.DESC);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    void listTasksPage_withCursor_shouldContinueAfterLastSeenKey() {
+        // Arrange
+        Task last = taskWithId(7L);
+        last.setTaskDateTime(LocalDateTime.of(2026, 1, 21, 10, 0));
+        last.setAssignedUser(user(2L, "assignee", Role.USER));
+        last.setCreatedBy(user(3L, "creator", Role.USER));
+
+        SpecificationFluentQuery<Task> q = mockPagedQuery(List.of(
+                Window.from(List.of(last), i -> ScrollPosition.keyset(), true),
+                Window.from(List.of(), i -> ScrollPosition.keyset(), false)));
+
+        String cursor = taskService.listTasksPage(null, null, null, "taskDateTime", "asc", null, 1).getNextCursor();
+
+        // Act
+        TaskPage page = taskService.listTasksPage(null, null, null, "taskDateTime", "asc", cursor, 1);
 
-        Sort sort = sortCaptor.getValue();
-        Sort.Order order = sort.getOrderFor("taskDateTime");
+        // Assert
+        ArgumentCaptor<ScrollPosition> posCaptor = ArgumentCaptor.forClass(ScrollPosition.class);
+        verify(q, times(2)).scroll(posCaptor.capture());
 
-        assertThat(order).isNotNull();
-        assertThat(order.getDirection()).isEqualTo(Sort.Direction.ASC);
+        KeysetScrollPosition pos = (KeysetScrollPosition) posCaptor.getAllValues().get(1);
+        assertThat(pos.getKeys()).containsEntry("taskDateTime", LocalDateTime.of(2026, 1, 21, 10, 0));
+        assertThat(pos.getKeys()).containsEntry("id", 7L);
 
-        assertThat(res).hasSize(1);
-        assertThat(res.get(0).getId()).isEqualTo(1L);
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
     }
 
     @Test
-    void listTasks_whenStatusProvided_shouldFindByStatus_withCustomSort() {
+    void listTasksPage_shouldCapLimit_andRejectCursorForDifferentSort() {
         // Arrange
-        when(taskRepository.findByStatus(eq(TaskStatus.PENDING), any(Sort.class)))
-                .thenReturn(List.of());
+        Task last = taskWithId(7L);
+        last.setPriority(Priority.HIGH);
+        last.setAssignedUser(user(2L, "assignee", Role.USER));
+        last.setCreatedBy(user(3L, "creator", Role.USER));
+
+        SpecificationFluentQuery<Task> q = mockPagedQuery(
+                List.of(Window.from(List.of(last), i -> ScrollPosition.keyset(), true)));
 
         // Act
-        taskService.listTasks(TaskStatus.PENDING, "priority", "desc");
+        String cursor = taskService.listTasksPage(null, null, null, "priority", "asc", null, 100_000).getNextCursor();
 
         // Assert
-        ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
-        verify(taskRepository).findByStatus(eq(TaskStatus.PENDING), sortCaptor.capture());
+        verify(q).limit(TaskService.MAX_PAGE_SIZE);
+
+        assertThatThrownBy(() -> taskService.listTasksPage(null, null, null, "taskDateTime", "asc", cursor, 10))
+                .isInstanceOf(InvalidTaskQueryException.class)
+                .hasMessageContaining("Cursor does not match");
+        assertThatThrownBy(() -> taskService.listTasksPage(null, null, null, "taskDateTime", "asc", "not-a-cursor", 10))
+                .isInstanceOf(InvalidTaskQueryException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void listTasksPageAndExport_shouldRejectSortKeysWithoutAnIndex() {
+        // Act + Assert: title and updatedAt are entity attributes, but not on the sortBy whitelist
+        for (String sortBy : List.of("title", "updatedAt")) {
+            assertThatThrownBy(() -> taskService.listTasksPage(null, null, null, sortBy, "asc", null, null))
+                    .isInstanceOf(InvalidTaskQueryException.class)
+                    .hasMessage("Unsupported sortBy: " + sortBy);
+            assertThatThrownBy(() -> taskService.exportTasks(null, sortBy, "asc", r -> { }))
+                    .isInstanceOf(InvalidTaskQueryException.class)
+                    .hasMessage("Unsupported sortBy: " + sortBy);
+        }
+
+        verify(taskRepository, never()).findBy(ArgumentMatchers.<Specification<Task>>any(),
+                ArgumentMatchers.<Function<? super SpecificationFluentQuery<Task>, Object>>any());
+        verify(taskRepository, never()).streamAllBy(any(Sort.class));
+    }
+
+    @Test
+    void listTasksPage_shouldRejectEmptyDateRange() {
+        // Arrange
+        LocalDateTime day = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        // Act + Assert
+        assertThatThrownBy(() -> taskService.listTasksPage(null, day, day, null, null, null, null))
+                .isInstanceOf(InvalidTaskQueryException.class)
+                .hasMessageContaining("from must be before to");
+
+        verify(taskRepository, never()).findBy(ArgumentMatchers.<Specification<Task>>any(),
+                ArgumentMatchers.<Function<? super SpecificationFluentQuery<Task>, Object>>any());
+    }
+
+    // -----------------------
+    // exportTasks tests
+    // -----------------------
+    @Test
+    void exportTasks_shouldStreamEveryRow_andClearPersistenceContextPerChunk() {
+        // Arrange
+        User assignee = user(2L, "assignee", Role.USER);
+        User creator = user(3L, "creator", Role.USER);
+        int rows = TaskRepository.STREAM_FETCH_SIZE * 2 + 1;
+
+        when(taskRepository.streamByStatus(eq(TaskStatus.APPROVED), any(Sort.class)))
+                .thenReturn(java.util.stream.LongStream.rangeClosed(1, rows).mapToObj(id -> {
+                    Task t = taskWithId(id);
+                    t.setAssignedUser(assignee);
+                    t.setCreatedBy(creator);
+                    return t;
+                }));
 
-        Sort sort = sortCaptor.getValue();
-        Sort.Order order = sort.getOrderFor("priority");
+        List<Long> exported = new java.util.ArrayList<>();
 
-        assertThat(order).isNotNull();
-        assertThat(order.getDirection()).isEqualTo(Sort.Direction.DESC);
+        // Act
+        taskService.exportTasks(TaskStatus.APPROVED, null, null, r -> exported.add(r.getId()));
+
+        // Assert
+        assertThat(exported).hasSize(rows);
+        assertThat(exported.get(0)).isEqualTo(1L);
+        verify(entityManager, times(2)).clear();
+        verify(taskRepository, never()).findAll(any(Sort.class));
+        assertThat(meterRegistry.get("tasks.result.size").tag("operation", "export").summary().totalAmount())
+                .isEqualTo(rows);
+    }
+
+    // -----------------------
+    // searchTasks tests
+    // -----------------------
+    @Test
+    void searchTasks_shouldReturnRowsInRankOrder_andApplyStatusFilter() {
+        // Arrange
+        User u = user(1L, "u", Role.USER);
+        Task titleHit = taskWithId(1L);
+        titleHit.setAssignedUser(u);
+        titleHit.setCreatedBy(u);
+        titleHit.setTitle("Quarterly report");
+        Task descriptionHit = taskWithId(2L);
+        descriptionHit.setAssignedUser(u);
+        descriptionHit.setCreatedBy(u);
+        descriptionHit.setTitle("Finance");
+        descriptionHit.setDescription("attach the quarterly numbers");
+        Task approvedHit = taskWithId(3L);
+        approvedHit.setAssignedUser(u);
+        approvedHit.setCreatedBy(u);
+        approvedHit.setTitle("Quarterly review");
+
+        taskSearchIndex.index(titleHit);
+        taskSearchIndex.index(descriptionHit);
+        taskSearchIndex.index(approvedHit);
+        taskSearchIndex.statusChanged(3L, TaskStatus.APPROVED);
+
+        // DB hands rows back in any order
+        when(taskRepository.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(descriptionHit, titleHit));
+
+        // Act
+        List<TaskResponse> result = taskService.searchTasks("quart", TaskStatus.PENDING, null);
+
+        // Assert
+        assertThat(result).extracting(TaskResponse::getId).containsExactly(1L, 2L);
+        assertThat(meterRegistry.get("tasks.operation").tags("operation", "search", "outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void searchTasks_shouldNotQueryDb_whenNothingMatches() {
+        // Act
+        List<TaskResponse> result = taskService.searchTasks("nothing indexed", null, 5);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void searchTasks_shouldRejectBlankQuery() {
+        assertThatThrownBy(() -> taskService.searchTasks("  ", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("q is required");
     }
 
     // -----------------------
@@ -242,8 +439,9 @@ class TaskServiceTest {
         t.setAssignedUser(assignee);
         t.setCreatedBy(creator);
 
-        when(taskRepository.findById(50L)).thenReturn(Optional.of(t));
-        when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(taskRepository.findWithUsersById(50L)).thenReturn(Optional.of(t));
+        when(taskRepository.compareAndSetStatus(eq(50L), eq(TaskStatus.PENDING), eq(0L), eq(TaskStatus.APPROVED),
+                eq(manager), any(LocalDateTime.class))).thenReturn(1);
 
         // Act
         TaskResponse resp = taskService.decide(50L, TaskDecisionRequest.Decision.APPROVE);
@@ -254,9 +452,20 @@ class TaskServiceTest {
         assertThat(t.getDecisionAt()).isNotNull();
 
         verify(notificationService).notifyTaskApproved(t, manager);
+        verify(taskEventBroadcaster).publish(argThat(e -> e.getType().equals("decided")
+                && e.getStatus() == TaskStatus.APPROVED && "manager".equals(e.getDecisionByUsername())));
+        verify(taskStatsService).onStatusChanged(TaskStatus.PENDING, TaskStatus.APPROVED);
+        assertThat(dataVersion.getTasks()).isEqualTo(1L);
 
         assertThat(resp.getStatus()).isEqualTo(TaskStatus.APPROVED);
         assertThat(resp.getDecisionByUsername()).isEqualTo("manager");
+        assertThat(resp.getVersion()).isEqualTo(1L);
+        verify(taskRepository, never()).save(any());
+
+        assertThat(meterRegistry.get("tasks.transitions").tags("from", "PENDING", "to", "APPROVED").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("tasks.operation").tags("operation", "decide", "outcome", "success").timer().count())
+                .isEqualTo(1);
     }
 
     @Test
@@ -272,8 +481,9 @@ class TaskServiceTest {
         t.setAssignedUser(user(2L, "assignee", Role.USER));
         t.setCreatedBy(user(3L, "creator", Role.USER));
 
-        when(taskRepository.findById(60L)).thenReturn(Optional.of(t));
-        when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(taskRepository.findWithUsersById(60L)).thenReturn(Optional.of(t));
+        when(taskRepository.compareAndSetStatus(eq(60L), eq(TaskStatus.PENDING), eq(0L), eq(TaskStatus.REJECTED),
+                eq(admin), any(LocalDateTime.class))).thenReturn(1);
 
         // Act
         TaskResponse resp = taskService.decide(60L, TaskDecisionRequest.Decision.REJECT);
@@ -301,9 +511,11 @@ class TaskServiceTest {
                 .isInstanceOf(SecurityException.class)
                 .hasMessageContaining("Only MANAGER or ADMIN");
 
-        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).findWithUsersById(anyLong());
         verify(notificationService, never()).notifyTaskApproved(any(), any());
         verify(notificationService, never()).notifyTaskRejected(any(), any());
+        assertThat(meterRegistry.get("tasks.operation").tags("operation", "decide", "outcome", "error").timer().count())
+                .isEqualTo(1);
     }
 
     @Test
@@ -313,7 +525,7 @@ class TaskServiceTest {
         User manager = user(1L, "manager", Role.MANAGER);
         when(userRepository.findByUsername("manager")).thenReturn(Optional.of(manager));
 
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.findWithUsersById(999L)).thenReturn(Optional.empty());
 
         // Act + Assert
         assertThatThrownBy(() -> taskService.decide(999L, TaskDecisionRequest.Decision.APPROVE))
@@ -335,15 +547,128 @@ class TaskServiceTest {
         ReflectionTestUtils.setField(t, "id", 70L);
         t.setStatus(TaskStatus.APPROVED);
 
-        when(taskRepository.findById(70L)).thenReturn(Optional.of(t));
+        when(taskRepository.findWithUsersById(70L)).thenReturn(Optional.of(t));
 
         // Act + Assert
         assertThatThrownBy(() -> taskService.decide(70L, TaskDecisionRequest.Decision.REJECT))
-                .isInstanceOf(IllegalStateException.class)
+                .isInstanceOf(TaskConflictException.class)
                 .hasMessageContaining("Only PENDING tasks can be approved/rejected");
 
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).compareAndSetStatus(any(), any(), anyLong(), any(), any(), any());
         verify(notificationService, never()).notifyTaskApproved(any(), any());
         verify(notificationService, never()).notifyTaskRejected(any(), any());
     }
+
+    @Test
+    void decide_shouldThrowConflict_whenConditionalUpdateLosesRace() {
+        // Arrange: task still reads PENDING, but another request decides it before our UPDATE
+        mockLoggedInUsername("manager");
+        User manager = user(1L, "manager", Role.MANAGER);
+        when(userRepository.findByUsername("manager")).thenReturn(Optional.of(manager));
+
+        Task t = new Task();
+        ReflectionTestUtils.setField(t, "id", 80L);
+        ReflectionTestUtils.setField(t, "version", 4L);
+        t.setStatus(TaskStatus.PENDING);
+
+        when(taskRepository.findWithUsersById(80L)).thenReturn(Optional.of(t));
+        when(taskRepository.compareAndSetStatus(eq(80L), eq(TaskStatus.PENDING), eq(4L), eq(TaskStatus.APPROVED),
+                eq(manager), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act + Assert
+        assertThatThrownBy(() -> taskService.decide(80L, TaskDecisionRequest.Decision.APPROVE))
+                .isInstanceOf(TaskConflictException.class)
+                .hasMessageContaining("by someone else");
+
+        assertThat(t.getStatus()).isEqualTo(TaskStatus.PENDING);
+        verify(taskStatsService, never()).onStatusChanged(any(), any());
+        verify(taskEventBroadcaster, never()).publish(any());
+        verify(notificationService, never()).notifyTaskApproved(any(), any());
+        assertThat(dataVersion.getTasks()).isZero();
+    }
+
+    @Test
+    void decide_shouldThrowConflict_whenExpectedVersionIsStale() {
+        // Arrange
+        mockLoggedInUsername("manager");
+        User manager = user(1L, "manager", Role.MANAGER);
+        when(userRepository.findByUsername("manager")).thenReturn(Optional.of(manager));
+
+        Task t = new Task();
+        ReflectionTestUtils.setField(t, "id", 90L);
+        ReflectionTestUtils.setField(t, "version", 2L);
+        t.setStatus(TaskStatus.PENDING);
+
+        when(taskRepository.findWithUsersById(90L)).thenReturn(Optional.of(t));
+
+        // Act + Assert
+        assertThatThrownBy(() -> taskService.decide(90L, TaskDecisionRequest.Decision.REJECT, 1L))
+                .isInstanceOf(TaskConflictException.class)
+                .hasMessageContaining("modified");
+
+        verify(taskRepository, never()).compareAndSetStatus(any(), any(), anyLong(), any(), any(), any());
+    }
+
+    // -----------------------
+    // decideAll tests
+    // -----------------------
+    @Test
+    void decideAll_shouldUpdateConditionally_andNotifyOnlyTransitionedTasks() {
+        // Arrange
+        mockLoggedInUsername("manager");
+        User manager = user(1L, "manager", Role.MANAGER);
+        when(userRepository.findByUsername("manager")).thenReturn(Optional.of(manager));
+
+        Task t10 = taskWithId(10L);
+        Task t12 = taskWithId(12L);
+        when(taskRepository.transitionAll(anyCollection(), eq(TaskStatus.PENDING), eq(TaskStatus.APPROVED),
+                eq(manager), any(LocalDateTime.class))).thenReturn(2);
+        when(taskRepository.findDecided(anyCollection(), eq(TaskStatus.APPROVED), eq(manager), any(LocalDateTime.class)))
+                .thenReturn(List.of(t10, t12));
+
+        // Act
+        var result = taskService.decideAll(List.of(10L, 11L, 12L, 10L), TaskDecisionRequest.Decision.APPROVE);
+
+        // Assert
+        assertThat(result.getTransitioned()).containsExactly(10L, 12L);
+        assertThat(result.getSkipped()).containsExactly(11L);
+
+        verify(taskRepository).transitionAll(eq(List.of(10L, 11L, 12L)), eq(TaskStatus.PENDING),
+                eq(TaskStatus.APPROVED), eq(manager), any(LocalDateTime.class));
+        verify(notificationService).notifyTaskApproved(t10, manager);
+        verify(notificationService).notifyTaskApproved(t12, manager);
+        verifyNoMoreInteractions(notificationService);
+        verify(taskStatsService).onStatusChanged(TaskStatus.PENDING, TaskStatus.APPROVED, 2);
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void decideAll_shouldSkipLookup_whenNothingWasPending() {
+        // Arrange
+        mockLoggedInUsername("admin");
+        User admin = user(1L, "admin", Role.ADMIN);
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(admin));
+        when(taskRepository.transitionAll(anyCollection(), any(), any(), any(), any())).thenReturn(0);
+
+        // Act
+        var result = taskService.decideAll(List.of(5L, 6L), TaskDecisionRequest.Decision.REJECT);
+
+        // Assert
+        assertThat(result.getTransitioned()).isEmpty();
+        assertThat(result.getSkipped()).containsExactly(5L, 6L);
+        verify(taskRepository, never()).findDecided(anyCollection(), any(), any(), any());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void decideAll_shouldThrowSecurityException_ifActorNotManagerOrAdmin() {
+        // Arrange
+        mockLoggedInUsername("user1");
+        when(userRepository.findByUsername("user1")).thenReturn(Optional.of(user(1L, "user1", Role.USER)));
+
+        // Act + Assert
+        assertThatThrownBy(() -> taskService.decideAll(List.of(1L), TaskDecisionRequest.Decision.APPROVE))
+                .isInstanceOf(SecurityException.class);
+        verify(taskRepository, never()).transitionAll(anyCollection(), any(), any(), any(), any());
+    }
 }
@@ -0,0 +1,176 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.dto.TaskStatsResponse;
+import com.example.taskandbookingmanagement.model.Priority;
+import com.example.taskandbookingmanagement.model.TaskStatus;
+import com.example.taskandbookingmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private TaskRepository.StatusCount statusCount(TaskStatus status, long total) {
+        return new TaskRepository.StatusCount() {
+            public TaskStatus getStatus() { return status; }
+            public long getTotal() { return total; }
+        };
+    }
+
+    private TaskRepository.PriorityCount priorityCount(Priority priority, long total) {
+        return new TaskRepository.PriorityCount() {
+            public Priority getPriority() { return priority; }
+            public long getTotal() { return total; }
+        };
+    }
+
+    private void mockGroupedCounts() {
+        when(taskRepository.countGroupedByStatus()).thenReturn(List.of(
+                statusCount(TaskStatus.PENDING, 5),
+                statusCount(TaskStatus.APPROVED, 2)
+        ));
+        when(taskRepository.countGroupedByPriority()).thenReturn(List.of(
+                priorityCount(Priority.HIGH, 7)
+        ));
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void getStats_queryMode_shouldUseGroupedQueries_andFillMissingKeysWithZero() {
+        // Arrange
+        mockGroupedCounts();
+        TaskStatsService stats = new TaskStatsService(taskRepository, false);
+
+        // Act
+        TaskStatsResponse res = stats.getStats();
+
+        // Assert
+        assertThat(res.getTotal()).isEqualTo(7);
+        assertThat(res.getByStatus()).containsEntry(TaskStatus.PENDING, 5L)
+                .containsEntry(TaskStatus.APPROVED, 2L)
+                .containsEntry(TaskStatus.REJECTED, 0L);
+        assertThat(res.getByPriority()).containsEntry(Priority.HIGH, 7L)
+                .containsEntry(Priority.LOW, 0L);
+
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void getStats_inMemoryMode_shouldLoadOnce_andFollowCreateAndDecide() {
+        // Arrange
+        mockGroupedCounts();
+        TaskStatsService stats = new TaskStatsService(taskRepository, true);
+        stats.getStats();
+
+        // Act
+        stats.onTaskCreated(TaskStatus.PENDING, Priority.LOW);
+        stats.onStatusChanged(TaskStatus.PENDING, TaskStatus.REJECTED);
+        TaskStatsResponse res = stats.getStats();
+
+        // Assert
+        assertThat(res.getByStatus()).containsEntry(TaskStatus.PENDING, 5L)
+                .containsEntry(TaskStatus.REJECTED, 1L);
+        assertThat(res.getByPriority()).containsEntry(Priority.LOW, 1L);
+        assertThat(res.getTotal()).isEqualTo(8);
+
+        verify(taskRepository, times(1)).countGroupedByStatus();
+    }
+
+    @Test
+    void createAndDecide_insideTransaction_shouldCountOnlyAfterCommit() {
+        // Arrange
+        mockGroupedCounts();
+        TaskStatsService stats = new TaskStatsService(taskRepository, true);
+        stats.getStats();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            stats.onTaskCreated(TaskStatus.PENDING, Priority.LOW);
+            stats.onStatusChanged(TaskStatus.PENDING, TaskStatus.APPROVED, 2);
+
+            // Assert: nothing visible before the commit
+            assertThat(stats.getStats().getTotal()).isEqualTo(7);
+            assertThat(stats.getStats().getByStatus()).containsEntry(TaskStatus.APPROVED, 2L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        TaskStatsResponse res = stats.getStats();
+        assertThat(res.getTotal()).isEqualTo(8);
+        assertThat(res.getByStatus()).containsEntry(TaskStatus.PENDING, 4L)
+                .containsEntry(TaskStatus.APPROVED, 4L);
+        assertThat(res.getByPriority()).containsEntry(Priority.LOW, 1L);
+    }
+
+    @Test
+    void onTaskArchived_inMemoryMode_shouldDropTheTaskFromTheCounts() {
+        // Arrange
+        mockGroupedCounts();
+        TaskStatsService stats = new TaskStatsService(taskRepository, true);
+        stats.getStats();
+
+        // Act
+        stats.onTaskArchived(TaskStatus.APPROVED, Priority.HIGH);
+        TaskStatsResponse res = stats.getStats();
+
+        // Assert
+        assertThat(res.getByStatus()).containsEntry(TaskStatus.APPROVED, 1L);
+        assertThat(res.getByPriority()).containsEntry(Priority.HIGH, 6L);
+        assertThat(res.getTotal()).isEqualTo(6);
+    }
+
+    @Test
+    void getStats_forOneUser_shouldQueryTheirTasks_evenInMemoryMode() {
+        // Arrange
+        when(taskRepository.countGroupedByStatusInvolving(42L)).thenReturn(List.of(
+                statusCount(TaskStatus.PENDING, 1)
+        ));
+        when(taskRepository.countGroupedByPriorityInvolving(42L)).thenReturn(List.of(
+                priorityCount(Priority.LOW, 1)
+        ));
+        TaskStatsService stats = new TaskStatsService(taskRepository, true);
+
+        // Act
+        TaskStatsResponse res = stats.getStats(42L);
+
+        // Assert
+        assertThat(res.getTotal()).isEqualTo(1);
+        assertThat(res.getByStatus()).containsEntry(TaskStatus.PENDING, 1L)
+                .containsEntry(TaskStatus.APPROVED, 0L);
+        assertThat(res.getByPriority()).containsEntry(Priority.LOW, 1L)
+                .containsEntry(Priority.HIGH, 0L);
+
+        verify(taskRepository, never()).countGroupedByStatus();
+    }
+
+    @Test
+    void onTaskCreated_queryMode_shouldNotTouchCounters() {
+        // Arrange
+        TaskStatsService stats = new TaskStatsService(taskRepository, false);
+
+        // Act
+        stats.onTaskCreated(TaskStatus.PENDING, Priority.LOW);
+
+        // Assert
+        verifyNoInteractions(taskRepository);
+    }
+}
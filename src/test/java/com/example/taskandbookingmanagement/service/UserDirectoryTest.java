@@ -0,0 +1,174 @@
+package com.example.taskandbookingmanagement.service;
+
+import com.example.taskandbookingmanagement.model.Role;
+import com.example.taskandbookingmanagement.model.User;
+import com.example.taskandbookingmanagement.repository.UserRepository;
+import com.example.taskandbookingmanagement.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+
+    @Mock private UserRepository userRepository;
+
+    private UserDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new UserDirectory(userRepository, 2, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // -----------------------
+    // Helpers
+    // -----------------------
+    private User user(Long id, String username) {
+        User u = new User();
+        ReflectionTestUtils.setField(u, "id", id);
+        u.setUsername(username);
+        u.setName(username);
+        u.setRole(Role.USER);
+        return u;
+    }
+
+    // -----------------------
+    // Tests
+    // -----------------------
+    @Test
+    void findByUsername_shouldHitCache_andServeIdLookupsToo() {
+        // Arrange
+        User alice = user(1L, "alice");
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+
+        // Act
+        directory.findByUsername("alice");
+        Optional<User> again = directory.findByUsername("alice");
+        Optional<User> byId = directory.findById(1L);
+
+        // Assert
+        assertThat(again).containsSame(alice);
+        assertThat(byId).containsSame(alice);
+        verify(userRepository, times(1)).findByUsername("alice");
+        verify(userRepository, never()).findById(any());
+        assertThat(directory.getStats().getHits()).isEqualTo(2);
+        assertThat(directory.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_shouldNotCacheMissingUsers() {
+        // Arrange
+        when(userRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // Act
+        directory.findById(9L);
+        directory.findById(9L);
+
+        // Assert
+        verify(userRepository, times(2)).findById(9L);
+        assertThat(directory.getStats().getSize()).isZero();
+    }
+
+    @Test
+    void invalidate_shouldDropBothKeys_andTheCachedList() {
+        // Arrange
+        User old = user(1L, "alice");
+        User renamed = user(1L, "alice2");
+        when(userRepository.findAll()).thenReturn(List.of(old));
+        directory.findAll();
+
+        // Act
+        directory.invalidate(renamed);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.empty());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(renamed));
+
+        // Assert
+        assertThat(directory.findByUsername("alice")).isEmpty();
+        assertThat(directory.findById(1L)).containsSame(renamed);
+        directory.findAll();
+        verify(userRepository, times(2)).findAll();
+    }
+
+    @Test
+    void cache_shouldEvictLeastRecentlyUsed_whenFull() {
+        // Arrange: max-size is 2
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "a")));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, "b")));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user(3L, "c")));
+
+        // Act
+        directory.findById(1L);
+        directory.findById(2L);
+        directory.findById(1L); // 1 is now most recently used
+        directory.findById(3L); // evicts 2
+        directory.findById(1L);
+        directory.findById(2L);
+
+        // Assert
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, times(2)).findById(2L);
+        assertThat(directory.getStats().getSize()).isEqualTo(2);
+        assertThat(directory.getStats().getEvictions()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void cache_shouldReload_afterTtl() {
+        // Arrange: zero TTL = every entry is already expired
+        directory = new UserDirectory(userRepository, 10, Duration.ZERO);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "a")));
+
+        // Act
+        directory.findById(1L);
+        directory.findById(1L);
+
+        // Assert
+        verify(userRepository, times(2)).findById(1L);
+        assertThat(directory.getStats().getHits()).isZero();
+    }
+
+    @Test
+    void currentUser_shouldResolveTokenLoginsById_andOthersByUsername() {
+        // Arrange
+        User alice = user(1L, "alice");
+        User bob = user(2L, "bob");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(alice));
+        when(userRepository.findByUsername("bob")).thenReturn(Optional.of(bob));
+        var principal = new AuthenticatedUser(1L, "alice", "", true, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // Act + Assert
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        assertThat(directory.currentUser()).isSameAs(alice);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("bob", null, List.of()));
+        assertThat(directory.currentUser()).isSameAs(bob);
+        verify(userRepository, never()).findByUsername("alice");
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("ghost", null, List.of()));
+        assertThatThrownBy(() -> directory.currentUser())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ghost");
+    }
+}